@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that the annotated method (or all the methods of the annotated class) may block the calling thread, for
+ * example to call a database over JDBC. <br>
+ * <br>
+ * The implementation must never invoke a blocking method on an I/O thread. Blocking methods are invoked on the executor
+ * configured with {@link ConfigKey#EXECUTOR}. Methods that return a <code>java.util.concurrent.CompletionStage</code>
+ * or a <code>Publisher</code> are non-blocking by default, all other methods are blocking by default. <br>
+ * <br>
+ * For example, a user might annotate a method as such:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Query
+ *     {@literal @}Blocking
+ *     public List{@literal <}Character{@literal >} allCharacters() {
+ *         return jdbcRepository.findAll();
+ *     }
+ * }
+ * </pre>
+ *
+ * It is a deployment error to annotate a method with both <code>{@literal @}Blocking</code> and
+ * <code>{@literal @}NonBlocking</code>.
+ *
+ * @see NonBlocking
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Documented
+public @interface Blocking {
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies how long the value of a GraphQL field stays fresh, and whether it may be cached by shared caches (like
+ * a CDN) or only by the client. <br>
+ * <br>
+ * The implementation combines the hints of all the fields in a response into one maximum age (the lowest of all the
+ * fields) and scope (<code>PRIVATE</code> if any of the fields is <code>PRIVATE</code>), and sends it to the client in the
+ * <code>cacheControl</code> response extension and, for GET requests, in the HTTP <code>Cache-Control</code> header. <br>
+ * <br>
+ * For example, a user might annotate a method as such:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Query
+ *     {@literal @}CacheControl(maxAge = 300)
+ *     public List{@literal <}Planet{@literal >} allPlanets() {
+ *         //...
+ *     }
+ * }
+ * </pre>
+ *
+ * A response to a query for <code>allPlanets</code> that only selects scalar fields would then be cacheable for 300
+ * seconds by any cache.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Documented
+public @interface CacheControl {
+
+    /**
+     * @return the number of seconds that the value of the field stays fresh. 0 means it must not be cached.
+     */
+    int maxAge();
+
+    /**
+     * @return who may cache the value of the field.
+     */
+    Scope scope() default Scope.PUBLIC;
+
+    /**
+     * Who may cache a response.
+     */
+    enum Scope {
+        /**
+         * Any cache, including shared caches, may store the response.
+         */
+        PUBLIC,
+        /**
+         * Only the client may store the response, as it is specific to the user.
+         */
+        PRIVATE
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Removes the cached results of queries annotated with {@link Cacheable} when a mutation method completes. The results
+ * for all the argument values of the named queries are removed, also when the mutation fails, as it might have made
+ * changes before it failed. <br>
+ * <br>
+ * For example, a user might annotate a method as such:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Mutation
+ *     {@literal @}CacheInvalidate(queries = "charactersIn")
+ *     public Character createCharacter({@literal @}Name("character") Character character) {
+ *         //...
+ *     }
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface CacheInvalidate {
+
+    /**
+     * @return the names of the query fields, as in the schema, whose cached results are removed.
+     */
+    String[] queries();
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the result of a query method on the server, so that the method is only invoked again when the cached result
+ * has expired, or was invalidated by a mutation annotated with {@link CacheInvalidate}. <br>
+ * <br>
+ * The result is cached per combination of the values of the key arguments, by default all the arguments of the method.
+ * The cache is shared by all requests, so the result must not depend on the caller. Only the value returned by the
+ * method is cached: the fields selected on it are resolved for every request. <br>
+ * <br>
+ * For example, a user might annotate a method as such:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Query
+ *     {@literal @}Cacheable(ttl = 300)
+ *     public List{@literal <}Character{@literal >} charactersIn({@literal @}Name("city") String city) {
+ *         //...
+ *     }
+ * }
+ * </pre>
+ *
+ * The characters in a city are then looked up at most once every 300 seconds for every city.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface Cacheable {
+
+    /**
+     * @return the number of seconds that a cached result may be used.
+     */
+    int ttl();
+
+    /**
+     * @return the names of the arguments that make up the key of the cached result. Empty means all the arguments.
+     */
+    String[] key() default {};
+}
@@ -30,4 +30,35 @@ public interface ConfigKey {
     @Deprecated
     public static final String EXCEPTION_WHITE_LIST = "mp.graphql.exceptionsWhiteList";
     public static final String EXCEPTION_SHOW_ERROR_MESSAGE_LIST = "mp.graphql.showErrorMessage";
-}
\ No newline at end of file
+
+    public static final String MAX_QUERY_DEPTH = "mp.graphql.maxQueryDepth";
+    public static final String MAX_QUERY_COMPLEXITY = "mp.graphql.maxQueryComplexity";
+
+    public static final String PERSISTED_QUERIES_ENABLED = "mp.graphql.persistedQueries.enabled";
+    public static final String PERSISTED_QUERIES_MAX_SIZE = "mp.graphql.persistedQueries.maxSize";
+
+    public static final String DOCUMENT_CACHE_MAX_SIZE = "mp.graphql.documentCache.maxSize";
+
+    public static final String EXECUTOR = "mp.graphql.executor";
+
+    public static final String METRICS_ENABLED = "mp.graphql.metrics.enabled";
+
+    public static final String TRACING_ENABLED = "mp.graphql.tracing.enabled";
+
+    public static final String BATCH_MAX_OPERATIONS = "mp.graphql.batch.maxOperations";
+
+    public static final String STREAMING_RESPONSE_ENABLED = "mp.graphql.streamingResponse.enabled";
+
+    public static final String REQUEST_CACHE_ENABLED = "mp.graphql.requestCache.enabled";
+
+    public static final String RESULT_CACHE_MAX_SIZE = "mp.graphql.resultCache.maxSize";
+
+    public static final String TRUSTED_DOCUMENTS_LOCATION = "mp.graphql.trustedDocuments.location";
+
+    public static final String UPLOAD_SPOOL_THRESHOLD = "mp.graphql.upload.spoolThreshold";
+    public static final String UPLOAD_MAX_SIZE = "mp.graphql.upload.maxSize";
+    public static final String UPLOAD_DIRECTORY = "mp.graphql.upload.directory";
+
+    public static final String PARALLELISM_MAX_CONCURRENT_FIELDS = "mp.graphql.parallelism.maxConcurrentFields";
+    public static final String PARALLELISM_MAX_CONCURRENT_SOURCES = "mp.graphql.parallelism.maxConcurrentSources";
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of a list, following the Relay cursor connections specification. A query method that returns a
+ * <code>Connection</code> of a type is paginated: the implementation generates the <code>first</code>,
+ * <code>after</code>, <code>last</code> and <code>before</code> arguments, and passes them to the method in a
+ * {@link PageRequest} parameter. <br>
+ * <br>
+ * For example, a user might write a method as such:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Query
+ *     public Connection{@literal <}Character{@literal >} characters(PageRequest page) {
+ *         return characterRepository.findPage(page);
+ *     }
+ * }
+ * </pre>
+ *
+ * Schema generation of this would result in a stanza such as:
+ *
+ * <pre>
+ * type Query {
+ *     characters(first: Int, after: String, last: Int, before: String): CharacterConnection
+ * }
+ *
+ * type CharacterConnection {
+ *     edges: [CharacterEdge!]!
+ *     pageInfo: PageInfo!
+ * }
+ *
+ * type CharacterEdge {
+ *     node: Character
+ *     cursor: String!
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the nodes
+ */
+public class Connection<T> {
+    private final List<Edge<T>> edges;
+    private final PageInfo pageInfo;
+
+    public Connection(List<Edge<T>> edges, PageInfo pageInfo) {
+        this.edges = Collections.unmodifiableList(new ArrayList<>(edges));
+        this.pageInfo = pageInfo;
+    }
+
+    /**
+     * @return the edges of this page, in order.
+     */
+    public List<Edge<T>> getEdges() {
+        return edges;
+    }
+
+    /**
+     * @return the information about this page.
+     */
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+}
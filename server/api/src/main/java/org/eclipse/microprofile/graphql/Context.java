@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.util.List;
+
+/**
+ * Gives a resolver (a query, mutation, subscription or <code>{@literal @}Source</code> method) information about the
+ * field that it is resolving, most importantly the fields that the client selected on it. A resolver can use this to
+ * only load the data that was requested, for example by building a narrow SQL or JSON projection. <br>
+ * <br>
+ * The context can be declared as a parameter of the resolver (which is not an argument in the schema), or injected
+ * with <code>{@literal @}Inject</code>, in which case it describes the field that is being resolved at the time of the
+ * call. <br>
+ * <br>
+ * For example:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Query
+ *     public List{@literal <}Character{@literal >} allCharacters(Context context) {
+ *         List{@literal <}String{@literal >} columns = context.getSelectedFields().stream()
+ *                 .map(SelectedField::getName)
+ *                 .collect(Collectors.toList());
+ *         return characterRepository.findAll(columns);
+ *     }
+ * }
+ * </pre>
+ */
+public interface Context {
+
+    /**
+     * @return the name of the field that is being resolved, as defined in the schema.
+     */
+    String getFieldName();
+
+    /**
+     * @return the alias that the client gave to the field that is being resolved, or null if there is none.
+     */
+    String getAlias();
+
+    /**
+     * @return the fields selected on the field that is being resolved, in the order of the request. Fields selected in
+     * inline fragments and fragment spreads are included, as if they were selected directly. A field that is selected
+     * more than once with the same alias (or without alias) is only included once, with its selections merged. The list
+     * is empty when the field is a scalar or an enum.
+     */
+    List<SelectedField> getSelectedFields();
+}
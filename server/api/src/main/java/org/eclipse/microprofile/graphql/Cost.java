@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies the cost of a GraphQL field, used to calculate the complexity of a request when a maximum query complexity
+ * is configured (see {@link ConfigKey#MAX_QUERY_COMPLEXITY}). Fields without this annotation have a cost of 1. <br>
+ * <br>
+ * When a multiplier argument is given, the cost of the field and of everything selected below it is multiplied by the
+ * value of that argument. The argument must be an <code>Int</code> (the value is used) or a list (the number of
+ * elements is used). This is typically used for fields that return a list whose size depends on an argument. <br>
+ * <br>
+ * For example, a user might annotate a method as such:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Query
+ *     {@literal @}Cost(value = 5, multiplierArgument = "names")
+ *     public List{@literal <}Character{@literal >} charactersByName({@literal @}Name("names") List{@literal <}String{@literal >} names) {
+ *         //...
+ *     }
+ * }
+ * </pre>
+ *
+ * The complexity of the following query would then be <code>(5 + 1) * 3 = 18</code>:
+ *
+ * <pre>
+ * {
+ *     charactersByName(names: ["Han Solo", "Luke Skywalker", "Leia Organa"]) {
+ *         name
+ *     }
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Documented
+public @interface Cost {
+
+    /**
+     * @return the cost of the field, not including the fields selected below it.
+     */
+    int value();
+
+    /**
+     * @return the name of the argument of the field that multiplies the cost. If empty, the cost is not multiplied.
+     */
+    String multiplierArgument() default "";
+}
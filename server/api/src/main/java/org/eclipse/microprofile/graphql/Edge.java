@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+/**
+ * One element of a {@link Connection}: the node and the cursor that points to it. <br>
+ * <br>
+ * The cursor is opaque to the client, and is created by the application. It should contain what the application
+ * needs to find the elements after or before it (for example the key of the node, to build a keyset query), and is
+ * passed back to the application in {@link PageRequest#getAfter()} or {@link PageRequest#getBefore()}.
+ *
+ * @param <T> the type of the node
+ */
+public class Edge<T> {
+    private final T node;
+    private final String cursor;
+
+    public Edge(T node, String cursor) {
+        this.node = node;
+        this.cursor = cursor;
+    }
+
+    /**
+     * @return the node.
+     */
+    public T getNode() {
+        return node;
+    }
+
+    /**
+     * @return the cursor that points to the node, never null.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+}
@@ -23,6 +23,10 @@ package org.eclipse.microprofile.graphql;
  * 
  * While it is expected that MP GraphQL implementations will return the message to the client, implementations must not
  * return the stack trace not the cause to the client.
+ * 
+ * Exceptions that are expected, for example when a requested entity does not exist, can be created without a stack
+ * trace, which is much cheaper, with the constructors that take <code>enableSuppression</code> and
+ * <code>writableStackTrace</code>.
  */
 public class GraphQLException extends Exception {
     private static final long serialVersionUID = -3661091414653921754L;
@@ -51,6 +55,35 @@ public class GraphQLException extends Exception {
         super(message, cause);
     }
 
+    /**
+     * Creates an exception with suppression and a stack trace enabled or disabled, see
+     * {@link Throwable#Throwable(String, Throwable, boolean, boolean)}.
+     *
+     * @param message the message sent to the client
+     * @param cause the cause, can be null
+     * @param enableSuppression whether suppressed exceptions can be added
+     * @param writableStackTrace whether the stack trace is filled in
+     */
+    public GraphQLException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Creates an exception of the given type with suppression and a stack trace enabled or disabled, see
+     * {@link Throwable#Throwable(String, Throwable, boolean, boolean)}.
+     *
+     * @param message the message sent to the client
+     * @param cause the cause, can be null
+     * @param type the type of the exception
+     * @param enableSuppression whether suppressed exceptions can be added
+     * @param writableStackTrace whether the stack trace is filled in
+     */
+    public GraphQLException(String message, Throwable cause, ExceptionType type, boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+        this.type = type;
+    }
+
     public GraphQLException(ExceptionType type) {
         super();
         this.type = type;
@@ -46,6 +46,10 @@ import java.lang.annotation.Target;
  *     addCharacter(character: CharacterInput): Character
  * }
  * </pre>
+ * <p>
+ * The annotated method may also return a <code>java.util.concurrent.CompletionStage</code>, in which case the type in
+ * the schema is generated from the type parameter of the <code>CompletionStage</code>. The next mutation in the same
+ * request is only executed once the returned <code>CompletionStage</code> has completed.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.METHOD})
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that the annotated method (or all the methods of the annotated class) never blocks the calling thread,
+ * for example because it only computes a value from its arguments or its source object. <br>
+ * <br>
+ * The implementation invokes non-blocking methods on the thread that executes the request, without switching to
+ * another thread, even when that thread is an I/O thread. <br>
+ * <br>
+ * For example, a user might annotate a method as such:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}NonBlocking
+ *     public String fullName({@literal @}Source Character character) {
+ *         return character.getFirstName() + " " + character.getLastName();
+ *     }
+ * }
+ * </pre>
+ *
+ * When a class is annotated, a method can still be annotated with <code>{@literal @}Blocking</code>, and the annotation
+ * on the method wins.
+ *
+ * @see Blocking
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Documented
+public @interface NonBlocking {
+}
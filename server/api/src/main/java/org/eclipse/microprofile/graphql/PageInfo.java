@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+/**
+ * Information about a page of a {@link Connection}, following the Relay cursor connections specification. The getters
+ * follow the JavaBean naming, so that the fields in the schema are <code>hasPreviousPage</code>,
+ * <code>hasNextPage</code>, <code>startCursor</code> and <code>endCursor</code>.
+ */
+public class PageInfo {
+    private final boolean hasPreviousPage;
+    private final boolean hasNextPage;
+    private final String startCursor;
+    private final String endCursor;
+
+    public PageInfo(boolean hasPreviousPage, boolean hasNextPage, String startCursor, String endCursor) {
+        this.hasPreviousPage = hasPreviousPage;
+        this.hasNextPage = hasNextPage;
+        this.startCursor = startCursor;
+        this.endCursor = endCursor;
+    }
+
+    /**
+     * @return true if there are elements before this page.
+     */
+    public boolean isHasPreviousPage() {
+        return hasPreviousPage;
+    }
+
+    /**
+     * @return true if there are elements after this page.
+     */
+    public boolean isHasNextPage() {
+        return hasNextPage;
+    }
+
+    /**
+     * @return the cursor of the first edge of this page, or null if the page is empty.
+     */
+    public String getStartCursor() {
+        return startCursor;
+    }
+
+    /**
+     * @return the cursor of the last edge of this page, or null if the page is empty.
+     */
+    public String getEndCursor() {
+        return endCursor;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+/**
+ * The pagination arguments of a query method that returns a {@link Connection}, as sent by the client. The
+ * implementation creates it from the generated <code>first</code>, <code>after</code>, <code>last</code> and
+ * <code>before</code> arguments, and passes it to the method in a parameter of this type (which is not an argument in
+ * the schema). <br>
+ * <br>
+ * The implementation rejects a request with a negative <code>first</code> or <code>last</code> before invoking the
+ * method.
+ */
+public interface PageRequest {
+
+    /**
+     * @return the maximum number of elements after the <code>after</code> cursor, or null if not given.
+     */
+    Integer getFirst();
+
+    /**
+     * @return the cursor of the element after which the page starts, or null if not given.
+     */
+    String getAfter();
+
+    /**
+     * @return the maximum number of elements before the <code>before</code> cursor, or null if not given.
+     */
+    Integer getLast();
+
+    /**
+     * @return the cursor of the element before which the page ends, or null if not given.
+     */
+    String getBefore();
+}
@@ -46,6 +46,11 @@ import java.lang.annotation.Target;
  *    friendsOf(character: CharacterInput): [Character]
  * }
  * </pre>
+ * <p>
+ * The annotated method may also return a <code>java.util.concurrent.CompletionStage</code>, in which case the query is
+ * resolved asynchronously and the type in the schema is generated from the type parameter of the
+ * <code>CompletionStage</code>. For example, a method returning
+ * <code>CompletionStage{@literal <}List{@literal <}Character{@literal >>}</code> results in the same stanza as above.
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
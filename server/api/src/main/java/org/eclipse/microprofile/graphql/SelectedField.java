@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.util.List;
+
+/**
+ * A field that the client selected, as exposed by {@link Context#getSelectedFields()}.
+ */
+public interface SelectedField {
+
+    /**
+     * @return the name of the field, as defined in the schema.
+     */
+    String getName();
+
+    /**
+     * @return the alias that the client gave to the field, or null if there is none.
+     */
+    String getAlias();
+
+    /**
+     * @return the key of the field in the response: the alias if there is one, the name otherwise.
+     */
+    default String getResultKey() {
+        return getAlias() != null ? getAlias() : getName();
+    }
+
+    /**
+     * @return the type condition of the fragment that the field was selected in, or null if it was selected directly.
+     */
+    String getTypeCondition();
+
+    /**
+     * @return the fields selected on this field, with the same rules as {@link Context#getSelectedFields()}. The list is
+     * empty when the field is a scalar or an enum.
+     */
+    List<SelectedField> getSelectedFields();
+}
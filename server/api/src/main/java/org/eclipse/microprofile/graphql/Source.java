@@ -65,6 +65,34 @@ import java.lang.annotation.Target;
  *    tweetsForMe(last: Int): [Tweet]
  * }
  * </pre>
+ * <p>
+ * The annotated parameter may also be a <code>java.util.List</code> of the extended type. In that case the field is
+ * resolved in batches: the method is invoked once with all the source objects of the same level in the result tree,
+ * and must return a <code>java.util.List</code> of the same size, where the element at a given position is the value
+ * of the added field for the source object at that same position. The extended type and the added field type are
+ * inferred from the generic types of the parameter and return type. For example:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     public List{@literal <}Location{@literal >} currentLocation({@literal @}Source List{@literal <}Character{@literal >} characters) {
+ *          return locationService.findAll(characters);
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * Schema generation of this would result in a stanza such as:
+ *
+ * <pre>
+ * type Character {
+ *    # Other fields ...
+ *    currentLocation: Location
+ * }
+ * </pre>
+ * <p>
+ * When the extended type is returned in a list, the added field is resolved once for every element of the list. With
+ * <code>parallel = true</code> and <code>mp.graphql.parallelism.maxConcurrentSources</code> greater than 1, these
+ * invocations run concurrently, on the executor for blocking resolvers and with at most that number of invocations at
+ * the same time for a list. The order of the results is always the order of the list.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.PARAMETER)
@@ -74,4 +102,10 @@ public @interface Source {
      * @return the name of the added type in the extended GraphQL type.
      */
     String name() default "";
+
+    /**
+     * @return true if the added field may be resolved concurrently for the elements of a list. This has no effect when
+     * the annotated parameter is a <code>java.util.List</code>, as the field is then resolved in a single invocation.
+     */
+    boolean parallel() default false;
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that the annotated method provides the implementation (ie. the
+ * resolver) for a GraphQL subscription. <br>
+ * <br>
+ * The annotated method must return a <code>java.util.concurrent.Flow.Publisher</code> or an
+ * <code>org.reactivestreams.Publisher</code>. Every item emitted by the publisher is sent to the subscribed client as a
+ * separate result, and the type in the schema is generated from the type parameter of the publisher. The
+ * implementation only requests items from the publisher as the client is able to receive them. <br>
+ * <br>
+ * For example, a user might annotate a method as such:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Subscription("characterMoved")
+ *     {@literal @}Description("Publishes a character every time it moves")
+ *     public Publisher{@literal <}Character{@literal >} movesOf(String name) {
+ *         //...
+ *     }
+ * }
+ * </pre>
+ *
+ * Schema generation of this would result in a stanza such as:
+ *
+ * <pre>
+ * type Subscription {
+ *     "Publishes a character every time it moves"
+ *     characterMoved(name: String): Character
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface Subscription {
+
+    /**
+     * @return the name of the GraphQL subscription. If empty, annotated method's name is used.
+     */
+    String value() default "";
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A file uploaded by the client with the GraphQL multipart request format. In the schema it is represented by the
+ * <code>Upload</code> scalar, which may only be used as the type of an argument (or of a field of an input type). <br>
+ * <br>
+ * The content of an upload is not held in memory: parts bigger than <code>mp.graphql.upload.spoolThreshold</code> bytes
+ * are written to a temporary file, which is deleted when the request completes. A resolver that needs the content
+ * after the request must copy it. <br>
+ * <br>
+ * For example:
+ *
+ * <pre>
+ * public class CharacterService {
+ *     {@literal @}Mutation
+ *     public Character uploadPicture({@literal @}Name("name") String name, {@literal @}Name("picture") Upload picture)
+ *             throws IOException {
+ *         try (InputStream in = picture.getInputStream()) {
+ *             return characterRepository.savePicture(name, picture.getContentType(), in);
+ *         }
+ *     }
+ * }
+ * </pre>
+ */
+public interface Upload {
+
+    /**
+     * @return the file name sent by the client in the <code>Content-Disposition</code> header of the part, or null if
+     * there is none.
+     */
+    String getFileName();
+
+    /**
+     * @return the <code>Content-Type</code> of the part, or null if the client did not send one.
+     */
+    String getContentType();
+
+    /**
+     * @return the size of the content in bytes.
+     */
+    long getSize();
+
+    /**
+     * Opens a new stream on the content. Every call returns a stream positioned at the start of the content, which the
+     * caller must close.
+     *
+     * @return the content of the upload.
+     * @throws IOException if the content can not be read, for example because the request has completed.
+     */
+    InputStream getInputStream() throws IOException;
+}
@@ -33,5 +33,5 @@
  * 
  * @since 1.0
  */
-@org.osgi.annotation.versioning.Version("1.0")
+@org.osgi.annotation.versioning.Version("1.1")
 package org.eclipse.microprofile.graphql;
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Simple test mainly as a placeholder for now.
+ */
+public class BlockingTest {
+
+    @NonBlocking
+    private static class Character {
+
+        private String name;
+
+        @Blocking
+        public String biography() {
+            return "loaded from the database";
+        }
+
+        public String name() {
+            return name;
+        }
+    }
+
+    @Test
+    public void testBlockingAnnotationOnCharacterMethod() throws Exception {
+        assertNotNull(Character.class.getDeclaredMethod("biography").getAnnotation(Blocking.class));
+        assertNull(Character.class.getDeclaredMethod("name").getAnnotation(Blocking.class));
+    }
+
+    @Test
+    public void testNonBlockingAnnotationOnCharacterClass() throws Exception {
+        assertNotNull(Character.class.getAnnotation(NonBlocking.class));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Simple test mainly as a placeholder for now.
+ */
+public class CacheControlTest {
+
+    private static class Character {
+
+        @CacheControl(maxAge = 30, scope = CacheControl.Scope.PRIVATE)
+        private String secretIdentity;
+
+        @CacheControl(maxAge = 300)
+        public List<Character> allCharacters() {
+            return Collections.emptyList();
+        }
+    }
+
+    @Test
+    public void testCacheControlAnnotationOnCharacterField() throws Exception {
+        CacheControl cacheControl = Character.class.getDeclaredField("secretIdentity").getAnnotation(CacheControl.class);
+        assertEquals(cacheControl.maxAge(), 30);
+        assertEquals(cacheControl.scope(), CacheControl.Scope.PRIVATE);
+    }
+
+    @Test
+    public void testCacheControlAnnotationOnCharacterMethod() throws Exception {
+        CacheControl cacheControl = Character.class.getDeclaredMethod("allCharacters").getAnnotation(CacheControl.class);
+        assertEquals(cacheControl.maxAge(), 300);
+        assertEquals(cacheControl.scope(), CacheControl.Scope.PUBLIC);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Simple test mainly as a placeholder for now.
+ */
+public class CacheableTest {
+
+    private static class Character {
+
+        @Cacheable(ttl = 300)
+        public List<Character> charactersIn(String city) {
+            return Collections.emptyList();
+        }
+
+        @Cacheable(ttl = 60, key = "name")
+        public Character characterByName(String name, boolean verbose) {
+            return null;
+        }
+
+        @CacheInvalidate(queries = {"charactersIn", "characterByName"})
+        public Character createCharacter(Character character) {
+            return character;
+        }
+    }
+
+    @Test
+    public void testCacheableWithAllArguments() throws Exception {
+        Cacheable cacheable = Character.class.getDeclaredMethod("charactersIn", String.class).getAnnotation(Cacheable.class);
+        assertEquals(cacheable.ttl(), 300);
+        assertEquals(cacheable.key().length, 0);
+    }
+
+    @Test
+    public void testCacheableWithKey() throws Exception {
+        Cacheable cacheable = Character.class.getDeclaredMethod("characterByName", String.class, boolean.class)
+                .getAnnotation(Cacheable.class);
+        assertEquals(cacheable.ttl(), 60);
+        assertEquals(cacheable.key(), new String[]{"name"});
+    }
+
+    @Test
+    public void testCacheInvalidate() throws Exception {
+        CacheInvalidate invalidate = Character.class.getDeclaredMethod("createCharacter", Character.class)
+                .getAnnotation(CacheInvalidate.class);
+        assertEquals(invalidate.queries(), new String[]{"charactersIn", "characterByName"});
+    }
+}
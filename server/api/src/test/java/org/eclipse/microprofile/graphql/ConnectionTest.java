@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Simple test mainly as a placeholder for now.
+ */
+public class ConnectionTest {
+
+    private static class Character {
+    }
+
+    @Test
+    public void testConnectionOfCharacters() throws Exception {
+        Character first = new Character();
+        List<Edge<Character>> edges = new ArrayList<>();
+        edges.add(new Edge<>(first, "a"));
+        edges.add(new Edge<>(new Character(), "b"));
+        Connection<Character> connection = new Connection<>(edges, new PageInfo(false, true, "a", "b"));
+        edges.clear();
+
+        assertEquals(connection.getEdges().size(), 2);
+        assertEquals(connection.getEdges().get(0).getNode(), first);
+        assertEquals(connection.getEdges().get(1).getCursor(), "b");
+        assertFalse(connection.getPageInfo().isHasPreviousPage());
+        assertTrue(connection.getPageInfo().isHasNextPage());
+        assertEquals(connection.getPageInfo().getStartCursor(), "a");
+        assertEquals(connection.getPageInfo().getEndCursor(), "b");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testConnectionEdgesAreUnmodifiable() throws Exception {
+        new Connection<Character>(new ArrayList<>(), new PageInfo(false, false, null, null)).getEdges().add(null);
+    }
+}
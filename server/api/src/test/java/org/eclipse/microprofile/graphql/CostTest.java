@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Simple test mainly as a placeholder for now.
+ */
+public class CostTest {
+
+    private static class Character {
+
+        @Cost(10)
+        private String biography;
+
+        @Cost(value = 5, multiplierArgument = "names")
+        public List<Character> charactersByName(List<String> names) {
+            return Collections.emptyList();
+        }
+    }
+
+    @Test
+    public void testCostAnnotationOnCharacterField() throws Exception {
+        Cost cost = Character.class.getDeclaredField("biography").getAnnotation(Cost.class);
+        assertEquals(cost.value(), 10);
+        assertEquals(cost.multiplierArgument(), "");
+    }
+
+    @Test
+    public void testCostAnnotationOnCharacterMethod() throws Exception {
+        Cost cost = Character.class.getDeclaredMethod("charactersByName", List.class).getAnnotation(Cost.class);
+        assertEquals(cost.value(), 5);
+        assertEquals(cost.multiplierArgument(), "names");
+    }
+}
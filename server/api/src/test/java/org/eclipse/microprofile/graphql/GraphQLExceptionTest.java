@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Simple test mainly as a placeholder for now.
+ */
+public class GraphQLExceptionTest {
+
+    @Test
+    public void testWithoutStackTrace() {
+        GraphQLException exception = new GraphQLException("Unknown hero", null, false, false);
+        exception.addSuppressed(new IllegalStateException());
+        assertEquals(exception.getMessage(), "Unknown hero");
+        assertNull(exception.getCause());
+        assertEquals(exception.getStackTrace().length, 0);
+        assertEquals(exception.getSuppressed().length, 0);
+    }
+
+    @Test
+    public void testWithStackTraceAndType() {
+        GraphQLException exception = new GraphQLException("Unknown hero", null,
+                GraphQLException.ExceptionType.DataFetchingException, true, true);
+        assertEquals(exception.getExceptionType(), GraphQLException.ExceptionType.DataFetchingException);
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql;
+
+import java.lang.reflect.Method;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Simple test mainly as a placeholder for now.
+ */
+public class SourceTest {
+
+    private static class Character {
+
+        public String currentLocation(@Source Character character) {
+            return null;
+        }
+
+        public String tweets(@Source(name = "tweetsForMe", parallel = true) Character character) {
+            return null;
+        }
+    }
+
+    @Test
+    public void testSourceDefaults() throws Exception {
+        Source source = getSource(Character.class.getDeclaredMethod("currentLocation", Character.class));
+        assertEquals(source.name(), "");
+        assertFalse(source.parallel());
+    }
+
+    @Test
+    public void testParallelSource() throws Exception {
+        Source source = getSource(Character.class.getDeclaredMethod("tweets", Character.class));
+        assertEquals(source.name(), "tweetsForMe");
+        assertTrue(source.parallel());
+    }
+
+    private static Source getSource(Method method) {
+        return method.getParameters()[0].getAnnotation(Source.class);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.graphql;
+
+import org.reactivestreams.Publisher;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Simple test mainly as a placeholder for now.
+ */
+public class SubscriptionTest {
+
+    private static class Character {
+
+        @Subscription("characterMoved")
+        @Description("Publishes a character every time it moves")
+        public Publisher<Character> movesOf(String name) {
+            return subscriber -> {
+            };
+        }
+    }
+
+    @Test
+    public void testSubscriptionAnnotationOnCharacterMethod() throws Exception {
+        Subscription subscription = Character.class.getDeclaredMethod("movesOf", String.class)
+                                                   .getAnnotation(Subscription.class);
+        assertEquals(subscription.value(), "characterMoved");
+        Description description = Character.class.getDeclaredMethod("movesOf", String.class)
+                                                 .getAnnotation(Description.class);
+        assertEquals(description.value(), "Publishes a character every time it moves");
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.benchmark.api;
+
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.Description;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+import org.eclipse.microprofile.graphql.tck.apps.stress.api.LazyList;
+import org.eclipse.microprofile.graphql.tck.apps.superhero.api.CsvIOException;
+import org.eclipse.microprofile.graphql.tck.apps.superhero.api.FlawNotFoundException;
+
+/**
+ * Fields that are resolved for many items in one request, to measure the cost per value of the work that the
+ * implementation does around a resolver.
+ */
+@GraphQLApi
+public class BenchmarkApi {
+
+    @Query
+    @Description("The given number of items, to resolve the same fields many times in one request")
+    public List<BenchmarkItem> benchmarkItems(@Name("count") int count) {
+        return new LazyList<>(count, BenchmarkItem::new);
+    }
+
+    @Description("Always fails with an exception that extends a class on the showErrorMessage list")
+    public String flaw(@Source BenchmarkItem item) {
+        throw new FlawNotFoundException("Item " + item.getIndex() + " has no flaw");
+    }
+
+    @Description("Always fails with a checked exception that extends a class on the hideErrorMessage list")
+    public String csvExport(@Source BenchmarkItem item) throws CsvIOException {
+        throw new CsvIOException("Item " + item.getIndex() + " can not be exported");
+    }
+}
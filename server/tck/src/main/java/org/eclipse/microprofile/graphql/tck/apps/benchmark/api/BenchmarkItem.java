@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.benchmark.api;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.eclipse.microprofile.graphql.DateFormat;
+import org.eclipse.microprofile.graphql.NumberFormat;
+
+public class BenchmarkItem {
+    public static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+    public static final int DAYS = 36500;
+
+    private final int index;
+
+    public BenchmarkItem(int index) {
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getCents() {
+        return index * 1001L;
+    }
+
+    @NumberFormat(value = "\u00a4 ###,###.##", locale = "en-US")
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(getCents(), 2);
+    }
+
+    @DateFormat(value = "dd MMMM yyyy", locale = "en-US")
+    public LocalDate getDate() {
+        return FIRST_DATE.plusDays(index % DAYS);
+    }
+}
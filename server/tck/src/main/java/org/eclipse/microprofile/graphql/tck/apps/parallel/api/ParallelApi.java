@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.parallel.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.Description;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.GraphQLException;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * Resolvers that take a given time, to test which root fields are resolved concurrently.
+ */
+@GraphQLApi
+public class ParallelApi {
+    private static final AtomicInteger RUNNING = new AtomicInteger();
+
+    @Query
+    @Description("Sleeps for the given time, query root fields may run concurrently")
+    public Sleep sleep(@Name("millis") int millis) throws GraphQLException {
+        return doSleep(millis);
+    }
+
+    @Mutation
+    @Description("Sleeps for the given time, mutation root fields must run one after the other")
+    public Sleep sleepInMutation(@Name("millis") int millis) throws GraphQLException {
+        return doSleep(millis);
+    }
+
+    @Query
+    @Description("A list of items with fields that are resolved in parallel")
+    public List<ParallelItem> parallelItems(@Name("count") int count) {
+        List<ParallelItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new ParallelItem(i));
+        }
+        return items;
+    }
+
+    @Description("Sleeps for the given time, may run concurrently for the items of a list")
+    public Sleep delayed(@Source(parallel = true) ParallelItem item, @Name("millis") int millis) throws GraphQLException {
+        return doSleep(millis);
+    }
+
+    @Description("Returns the index of the item, the items earlier in the list take longer, so they complete last")
+    public int reversed(@Source(parallel = true) ParallelItem item, @Name("count") int count) throws GraphQLException {
+        doSleep((count - item.getIndex()) * 10);
+        return item.getIndex();
+    }
+
+    private static Sleep doSleep(int millis) throws GraphQLException {
+        int running = RUNNING.incrementAndGet();
+        long startedAt = System.currentTimeMillis();
+        try {
+            Thread.sleep(millis);
+            return new Sleep(startedAt, System.currentTimeMillis(), running);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GraphQLException("Interrupted while sleeping", e);
+        } finally {
+            RUNNING.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.parallel.api;
+
+/**
+ * When a resolver slept, and how many resolvers (including this one) were running when it started
+ */
+public class Sleep {
+    private final long startedAt;
+    private final long endedAt;
+    private final int running;
+
+    public Sleep(long startedAt, long endedAt, int running) {
+        this.startedAt = startedAt;
+        this.endedAt = endedAt;
+        this.running = running;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public long getEndedAt() {
+        return endedAt;
+    }
+
+    public int getRunning() {
+        return running;
+    }
+}
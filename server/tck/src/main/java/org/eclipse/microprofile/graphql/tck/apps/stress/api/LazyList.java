@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.stress.api;
+
+import java.util.AbstractList;
+import java.util.function.IntFunction;
+
+/**
+ * A list of a fixed size, that only creates an item when it is read, so that a large result does not have to be held
+ * in memory by the application.
+ *
+ * @param <T> the type of the items
+ */
+public class LazyList<T> extends AbstractList<T> {
+    private final int size;
+    private final IntFunction<T> factory;
+
+    /**
+     * @param size the number of items
+     * @param factory creates the item at an index
+     */
+    public LazyList(int size, IntFunction<T> factory) {
+        this.size = size;
+        this.factory = factory;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return factory.apply(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.stress.api;
+
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.DefaultValue;
+import org.eclipse.microprofile.graphql.Description;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.GraphQLException;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * Returns results that are much larger than the Java objects they are created from, to test that the response can be
+ * written while it is being resolved, without holding the complete result in memory.
+ */
+@GraphQLApi
+public class StressApi {
+
+    @Query
+    @Description("A large list of items, every item is only created when it is read")
+    public List<StressItem> stressItems(@Name("count") int count, @Name("failAt") @DefaultValue("-1") int failAt) {
+        return new LazyList<>(count, index -> new StressItem(index, index == failAt));
+    }
+
+    @Description("Fails for the item at the failAt index")
+    public String checksum(@Source StressItem item) throws GraphQLException {
+        if (item.isFailing()) {
+            throw new GraphQLException("Checksum failed for item " + item.getIndex());
+        }
+        return Integer.toHexString(item.getName().hashCode());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.stress.api;
+
+import org.eclipse.microprofile.graphql.Ignore;
+
+public class StressItem {
+    private static final String DESCRIPTION = "An item that is created on the fly, and only exists to make the response larger";
+
+    private final int index;
+    private final boolean failing;
+
+    public StressItem(int index, boolean failing) {
+        this.index = index;
+        this.failing = failing;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return String.format("Item %07d", index);
+    }
+
+    public String getDescription() {
+        return DESCRIPTION;
+    }
+
+    @Ignore
+    public boolean isFailing() {
+        return failing;
+    }
+}
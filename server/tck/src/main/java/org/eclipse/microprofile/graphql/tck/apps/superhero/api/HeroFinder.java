@@ -23,11 +23,15 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,21 +42,34 @@ import javax.json.bind.annotation.JsonbDateFormat;
 import javax.json.bind.annotation.JsonbNumberFormat;
 import org.eclipse.microprofile.graphql.DateFormat;
 
+import org.eclipse.microprofile.graphql.Blocking;
+import org.eclipse.microprofile.graphql.CacheControl;
+import org.eclipse.microprofile.graphql.CacheInvalidate;
+import org.eclipse.microprofile.graphql.Cacheable;
+import org.eclipse.microprofile.graphql.Connection;
+import org.eclipse.microprofile.graphql.Context;
+import org.eclipse.microprofile.graphql.Cost;
 import org.eclipse.microprofile.graphql.DefaultValue;
 import org.eclipse.microprofile.graphql.Description;
 import org.eclipse.microprofile.graphql.GraphQLApi;
 import org.eclipse.microprofile.graphql.GraphQLException;
 import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.NonBlocking;
 import org.eclipse.microprofile.graphql.Query;
 import org.eclipse.microprofile.graphql.Source;
+import org.eclipse.microprofile.graphql.Subscription;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.db.DuplicateSuperHeroException;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.db.HeroDatabase;
+import org.eclipse.microprofile.graphql.tck.apps.superhero.db.HeroLocationBroadcaster;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.db.HeroLocator;
+import org.eclipse.microprofile.graphql.tck.apps.superhero.db.RecruitDatabase;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.db.SidekickDatabase;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.db.UnknownHeroException;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.db.UnknownSidekickException;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.db.UnknownTeamException;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.model.Character;
+import org.eclipse.microprofile.graphql.tck.apps.superhero.model.HeroLocation;
+import org.eclipse.microprofile.graphql.tck.apps.superhero.model.HeroProjection;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.model.Item;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.model.Sidekick;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.model.SuperHero;
@@ -60,7 +77,9 @@ import org.eclipse.microprofile.graphql.tck.apps.superhero.model.Team;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.model.UnknownCharacterException;
 import org.eclipse.microprofile.graphql.Name;
 import org.eclipse.microprofile.graphql.NumberFormat;
+import org.eclipse.microprofile.graphql.PageRequest;
 import org.eclipse.microprofile.graphql.tck.apps.superhero.model.Token;
+import org.reactivestreams.Publisher;
 
 @GraphQLApi
 public class HeroFinder {
@@ -75,6 +94,12 @@ public class HeroFinder {
     @Inject
     private HeroLocator heroLocator;
 
+    @Inject
+    private HeroLocationBroadcaster locationBroadcaster;
+
+    @Inject
+    private RecruitDatabase recruitDB;
+
     @Query
     public Character character(@Name("name") String name) throws UnknownCharacterException {
         LOG.log(Level.INFO, "character invoked [{0}]", name);
@@ -98,6 +123,13 @@ public class HeroFinder {
         return Optional.ofNullable(heroDB.getHero(name)).orElseThrow(() -> new UnknownHeroException(name));
     }
 
+    @Query
+    @Description("Find a super hero asynchronously")
+    public CompletionStage<SuperHero> superHeroAsync(@Name("name") String name) {
+        LOG.log(Level.INFO, "superHeroAsync invoked [{0}]", name);
+        return async(() -> heroDB.getHero(name));
+    }
+
     @Query @Description("Testing the hideErrorMessage list of Checked Exceptions")
     public SuperHero exportToFile(@Name("name") @Description("Super hero name, not real name") String name) throws IOException {
         LOG.log(Level.INFO, "exportToFile invoked [{0}]", name);
@@ -142,11 +174,17 @@ public class HeroFinder {
     }
 
     @Query
+    @Description("List all super heroes in the database asynchronously")
+    public CompletionStage<Collection<SuperHero>> allHeroesAsync() {
+        LOG.info("allHeroesAsync invoked");
+        return async(() -> heroDB.getAllHeroes());
+    }
+
+    @Query
+    @Cacheable(ttl = 300)
     public Collection<SuperHero> allHeroesIn(@DefaultValue("New York, NY") @Name("city") String city) {
         LOG.log(Level.INFO, "allHeroesIn invoked [{0}]", city);
-        return allHeroesByFilter(hero -> {
-            return city.equals(hero.getPrimaryLocation());
-        });
+        return heroDB.getHeroesIn(city);
     }
 
     @Query
@@ -164,18 +202,48 @@ public class HeroFinder {
     }
 
     @Query
+    @Cost(value = 2, multiplierArgument = "names")
+    @Description("Testing @Cost with a list argument as multiplier")
+    public List<SuperHero> heroesByName(@Name("names") List<String> names) throws UnknownHeroException {
+        LOG.log(Level.INFO, "heroesByName invoked [{0}]", names);
+        List<SuperHero> heroes = new ArrayList<>();
+        for (String name : names) {
+            heroes.add(heroDB.getHero(name));
+        }
+        return heroes;
+    }
+
+    @Query
+    @Description("Testing Connection, a page of the recruits, sorted by name")
+    public Connection<SuperHero> recruits(PageRequest page) {
+        LOG.log(Level.INFO, "recruits invoked [{0}]", page);
+        return recruitDB.getPage(page);
+    }
+
+    @Query
+    @Description("Testing Context, only loads the selected fields of the hero")
+    public HeroProjection heroProjection(@Name("name") String name, Context context) throws UnknownHeroException {
+        LOG.log(Level.INFO, "heroProjection invoked [{0}]", name);
+        return HeroProjection.of(heroDB.getHero(name), context.getSelectedFields());
+    }
+
+    @Query
+    @CacheControl(maxAge = 120)
     public Team getTeam(@Name("team") String teamName) throws UnknownTeamException {
         LOG.log(Level.INFO, "getTeam invoked [{0}]", teamName);
         return heroDB.getTeam(teamName);
     }
     
     @Query
+    @CacheControl(maxAge = 300)
+    @Cacheable(ttl = 300)
     public Collection<Team> allTeams() {
         LOG.info("allTeams invoked");
         return heroDB.getAllTeams();
     }
 
     @Mutation
+    @CacheInvalidate(queries = {"allHeroesIn", "allTeams"})
     public SuperHero createNewHero(@Name("hero") SuperHero newHero) throws DuplicateSuperHeroException, UnknownHeroException {
         LOG.log(Level.INFO, "createNewHero invoked [{0}]", newHero);
         heroDB.addHero(newHero);
@@ -183,6 +251,7 @@ public class HeroFinder {
     }
 
     @Mutation
+    @CacheInvalidate(queries = {"allHeroesIn", "allTeams"})
     public Collection<SuperHero> createNewHeroes(@Name("heroes") List<SuperHero> newHeroes) throws DuplicateSuperHeroException, UnknownHeroException {
         LOG.log(Level.INFO, "createNewHeroes invoked [{0}]", newHeroes);
         heroDB.addHeroes(newHeroes);
@@ -190,6 +259,7 @@ public class HeroFinder {
     }
     
     @Mutation
+    @CacheInvalidate(queries = {"allHeroesIn", "allTeams"})
     public SuperHero[] createNewHeroesWithArray(@Name("heroes") SuperHero[] newHeroes) throws DuplicateSuperHeroException, UnknownHeroException {
         LOG.log(Level.INFO, "createNewHeroesWithArray invoked [{0}]", newHeroes);
         List<SuperHero> asList = Arrays.asList(newHeroes);
@@ -208,6 +278,14 @@ public class HeroFinder {
                 .addMembers(heroDB.getHero(heroName));
     }
 
+    @Mutation
+    @Description("Adds a hero to the specified team asynchronously and returns the updated team.")
+    public CompletionStage<Team> addHeroToTeamAsync(@Name("hero") String heroName,
+                                                    @Name("team") String teamName) {
+        LOG.log(Level.INFO, "addHeroToTeamAsync invoked [{0}],[{1}]", new Object[]{heroName, teamName});
+        return async(() -> heroDB.getTeam(teamName).addMembers(heroDB.getHero(heroName)));
+    }
+
     @Mutation
     @Description("Removes a hero to the specified team and returns the updated team.")
     public Team removeHeroFromTeam(@Name("hero") String heroName,
@@ -219,6 +297,7 @@ public class HeroFinder {
     }
 
     @Mutation
+    @CacheInvalidate(queries = "allHeroesIn")
     @Description("Removes a hero... permanently...")
     public Collection<SuperHero> removeHero(@Name("hero") String heroName) throws UnknownHeroException {
         LOG.log(Level.INFO, "removeHero invoked [{0}]", heroName);
@@ -371,6 +450,7 @@ public class HeroFinder {
         SuperHero superHero = heroDB.getHero(name);
         if(superHero!=null){
             superHero.setLastKnownCoordinates(coordinates);
+            locationBroadcaster.publish(new HeroLocation(name, coordinates));
         }
         return superHero;
     }
@@ -579,6 +659,7 @@ public class HeroFinder {
     }
     
     @Query
+    @Cost(5)
     public String getCurrentLocation(@Name("superHero")@Source SuperHero hero) throws GraphQLException {
         LOG.log(Level.INFO, "currentLocation invoked [{0}]", hero);
         final String heroName = hero.getName();
@@ -603,6 +684,34 @@ public class HeroFinder {
         }
     }
     
+    @Description("Location of the hero, resolved for all heroes at once")
+    public List<String> batchedLocation(@Source List<SuperHero> heroes) {
+        LOG.log(Level.INFO, "batchedLocation invoked [{0}]", heroes);
+        List<String> locations = new ArrayList<>();
+        for (SuperHero hero : heroes) {
+            locations.add(heroLocator.getHeroLocation(hero.getName()).orElse(null));
+        }
+        return locations;
+    }
+
+    @Description("Number of heroes resolved in the same invocation as this hero")
+    public List<Integer> batchSize(@Source List<SuperHero> heroes) {
+        LOG.log(Level.INFO, "batchSize invoked [{0}]", heroes.size());
+        return Collections.nCopies(heroes.size(), heroes.size());
+    }
+
+    @Description("Location of the hero, resolved asynchronously")
+    public CompletionStage<String> asyncLocation(@Source SuperHero hero) {
+        LOG.log(Level.INFO, "asyncLocation invoked [{0}]", hero);
+        return async(() -> heroLocator.getHeroLocation(hero.getName()).orElse(null));
+    }
+
+    @Description("Number of heroes resolved in the same asynchronous invocation as this hero")
+    public CompletionStage<List<Integer>> asyncBatchSize(@Source List<SuperHero> heroes) {
+        LOG.log(Level.INFO, "asyncBatchSize invoked [{0}]", heroes.size());
+        return async(() -> Collections.nCopies(heroes.size(), heroes.size()));
+    }
+
     @Mutation("setRivalTeam")
     public Team setRivalTeam(@Name("teamName") String teamName, @Name("rivalTeam") Team rivalTeam)
             throws UnknownTeamException {
@@ -613,6 +722,63 @@ public class HeroFinder {
         return team;
     }
 
+    @Subscription
+    @Description("Publishes the location of a hero every time it is logged, starting with the last known location")
+    public Publisher<HeroLocation> heroLocations(@Name("name") String name,
+                                                 @DefaultValue("10") @Name("limit") int limit) throws UnknownHeroException {
+        LOG.log(Level.INFO, "heroLocations invoked [{0}],[{1}]", new Object[]{name, limit});
+        SuperHero superHero = heroDB.getHero(name);
+        return locationBroadcaster.locationsOf(new HeroLocation(name, superHero.getLastKnownCoordinates()), limit);
+    }
+
+    @Query
+    @Description("The highest number of locations requested, but not yet received, by any heroLocations subscriber")
+    public long maxOutstandingLocationDemand() {
+        LOG.info("maxOutstandingLocationDemand invoked");
+        return locationBroadcaster.getMaxOutstandingDemand();
+    }
+
+    @Query
+    @Description("The number of locations of a hero that were emitted to heroLocations subscribers")
+    public long emittedLocations(@Name("name") String name) {
+        LOG.log(Level.INFO, "emittedLocations invoked [{0}]", name);
+        return locationBroadcaster.getEmitted(name);
+    }
+
+    @Query
+    @NonBlocking
+    @Description("Testing @NonBlocking, the thread that the query was invoked on")
+    public String nonBlockingThread() {
+        LOG.info("nonBlockingThread invoked");
+        return currentThread();
+    }
+
+    @Blocking
+    @Description("Testing @Blocking, the thread that the field was resolved on")
+    public String blockingThread(@Source SuperHero hero) {
+        LOG.log(Level.INFO, "blockingThread invoked [{0}]", hero);
+        return currentThread();
+    }
+
+    @Description("Testing the request cache, loads the team again, so only once per team and request")
+    public int memberCount(@Source Team team) throws UnknownTeamException {
+        LOG.log(Level.INFO, "memberCount invoked [{0}]", team.getName());
+        List<SuperHero> members = heroDB.getTeam(team.getName()).getMembers();
+        return members == null ? 0 : members.size();
+    }
+
+    @Query
+    @Description("Testing the request cache, the number of times a team was loaded from the database")
+    public int teamLoads() {
+        return heroDB.getTeamLoads();
+    }
+
+    @Query
+    @Description("Testing the result cache, the number of times the heroes of a city were loaded from the database")
+    public int cityLoads() {
+        return heroDB.getCityLoads();
+    }
+
     @Query
     public Collection<SuperHero> allHeroesWithError() throws GraphQLException {
         LOG.info("allHeroesWithError invoked");
@@ -653,6 +819,7 @@ public class HeroFinder {
     }
 
     @Mutation
+    @CacheInvalidate(queries = "allTeams")
     public Team createNewTeam(@Name("newTeam") Team newTeam) {
         LOG.log(Level.INFO, "createNewTeam invoked [{0}]", newTeam);
         List<SuperHero> members = newTeam.getMembers();
@@ -665,15 +832,33 @@ public class HeroFinder {
     }
 
     @Mutation
+    @CacheInvalidate(queries = "allTeams")
     public Team removeTeam(@Name("teamName") String teamName) throws UnknownTeamException {
         LOG.log(Level.INFO, "removeTeam invoked [{0}]", teamName);
         return heroDB.removeTeam(teamName);
     }
     
+    private static <T> CompletionStage<T> async(Callable<T> callable) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> {
+            try {
+                result.complete(callable.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
     private Collection<SuperHero> allHeroesByFilter(Predicate<SuperHero> predicate) {
         return heroDB.getAllHeroes()
                 .stream()
                 .filter(predicate)
                 .collect(Collectors.toCollection(ArrayList::new));
     }
+
+    private static String currentThread() {
+        Thread thread = Thread.currentThread();
+        return thread.getName() + "#" + thread.getId();
+    }
 }
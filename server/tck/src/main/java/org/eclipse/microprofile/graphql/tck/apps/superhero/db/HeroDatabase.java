@@ -23,6 +23,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.Initialized;
@@ -37,6 +39,8 @@ import org.eclipse.microprofile.graphql.tck.apps.superhero.model.Team;
 public class HeroDatabase {
     private final Map<String, SuperHero> allHeroes = new HashMap<>();
     private final Map<String, Team> allTeams = new HashMap<>();
+    private final AtomicInteger teamLoads = new AtomicInteger();
+    private final AtomicInteger cityLoads = new AtomicInteger();
 
     private void init(@Observes @Initialized(ApplicationScoped.class) Object init) {
 
@@ -63,6 +67,7 @@ public class HeroDatabase {
     }
 
     public Team getTeam(String name) throws UnknownTeamException {
+        teamLoads.incrementAndGet();
         Team team = allTeams.get(name);
         if (team == null) {
             throw new UnknownTeamException(name);
@@ -70,6 +75,27 @@ public class HeroDatabase {
         return team;
     }
 
+    /**
+     * @return the number of times getTeam was called since the start of the application
+     */
+    public int getTeamLoads() {
+        return teamLoads.get();
+    }
+
+    public Collection<SuperHero> getHeroesIn(String city) {
+        cityLoads.incrementAndGet();
+        return allHeroes.values().stream()
+                .filter(hero -> city.equals(hero.getPrimaryLocation()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * @return the number of times getHeroesIn was called since the start of the application
+     */
+    public int getCityLoads() {
+        return cityLoads.get();
+    }
+
     public Collection<SuperHero> getAllHeroes() {
         return allHeroes.values();
     }
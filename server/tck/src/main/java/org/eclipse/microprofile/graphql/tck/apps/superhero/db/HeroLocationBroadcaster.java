@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.superhero.db;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.graphql.tck.apps.superhero.model.HeroLocation;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publishes the location of a hero every time it is logged.
+ *
+ * Every subscription only emits as many locations as were requested by the subscriber, and buffers at most
+ * {@link #BUFFER_SIZE} locations that were not requested yet (dropping the oldest ones). It also keeps track of the
+ * highest outstanding demand that was signalled by any subscriber, and of the number of locations emitted per hero.
+ */
+@ApplicationScoped
+public class HeroLocationBroadcaster {
+    public static final int BUFFER_SIZE = 16;
+
+    private final List<LocationSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong maxOutstandingDemand = new AtomicLong();
+    private final Map<String, AtomicLong> emitted = new ConcurrentHashMap<>();
+
+    /**
+     * @param current the current location of the hero, which is emitted first
+     * @param limit the number of locations to emit before completing
+     * @return a publisher that emits the location of the hero every time it is logged
+     */
+    public Publisher<HeroLocation> locationsOf(HeroLocation current, int limit) {
+        return subscriber -> {
+            LocationSubscription subscription = new LocationSubscription(subscriber, current.getHeroName(), limit);
+            subscriptions.add(subscription);
+            subscriber.onSubscribe(subscription);
+            subscription.offer(current);
+        };
+    }
+
+    public void publish(HeroLocation location) {
+        for (LocationSubscription subscription : subscriptions) {
+            if (subscription.heroName.equals(location.getHeroName())) {
+                subscription.offer(location);
+            }
+        }
+    }
+
+    public long getMaxOutstandingDemand() {
+        return maxOutstandingDemand.get();
+    }
+
+    /**
+     * @param heroName the name of the hero
+     * @return the number of locations of the hero that were emitted to all subscribers
+     */
+    public long getEmitted(String heroName) {
+        AtomicLong count = emitted.get(heroName);
+        return (count == null) ? 0 : count.get();
+    }
+
+    private class LocationSubscription implements Subscription {
+        private final Subscriber<? super HeroLocation> subscriber;
+        private final String heroName;
+        private final int limit;
+        private final Deque<HeroLocation> buffer = new ArrayDeque<>();
+        private long requested;
+        private int emitted;
+        private boolean draining;
+        private boolean done;
+
+        LocationSubscription(Subscriber<? super HeroLocation> subscriber, String heroName, int limit) {
+            this.subscriber = subscriber;
+            this.heroName = heroName;
+            this.limit = limit;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (n <= 0) {
+                    done = true;
+                    subscriptions.remove(this);
+                    subscriber.onError(new IllegalArgumentException("Requested " + n + " locations, must be positive"));
+                    return;
+                }
+                requested = (requested + n < 0) ? Long.MAX_VALUE : requested + n;
+                maxOutstandingDemand.accumulateAndGet(requested, Math::max);
+            }
+            drain();
+        }
+
+        @Override
+        public synchronized void cancel() {
+            done = true;
+            buffer.clear();
+            subscriptions.remove(this);
+        }
+
+        synchronized void offer(HeroLocation location) {
+            if (done) {
+                return;
+            }
+            if (buffer.size() == BUFFER_SIZE) {
+                buffer.removeFirst();
+            }
+            buffer.addLast(location);
+            drain();
+        }
+
+        private synchronized void drain() {
+            if (draining) {
+                return;
+            }
+            draining = true;
+            try {
+                while (!done && requested > 0 && !buffer.isEmpty()) {
+                    requested--;
+                    emitted++;
+                    HeroLocationBroadcaster.this.emitted.computeIfAbsent(heroName, name -> new AtomicLong()).incrementAndGet();
+                    subscriber.onNext(buffer.removeFirst());
+                    if (emitted == limit) {
+                        done = true;
+                        subscriptions.remove(this);
+                        subscriber.onComplete();
+                    }
+                }
+            } finally {
+                draining = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.superhero.db;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+
+import org.eclipse.microprofile.graphql.Connection;
+import org.eclipse.microprofile.graphql.Edge;
+import org.eclipse.microprofile.graphql.PageInfo;
+import org.eclipse.microprofile.graphql.PageRequest;
+import org.eclipse.microprofile.graphql.tck.apps.superhero.model.SuperHero;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A large, generated, list of recruits, that can only be read a page at a time. The heroes are sorted by name, and
+ * the cursor contains the name, so that a page can be found the same way as with a keyset query in a database.
+ */
+@ApplicationScoped
+public class RecruitDatabase {
+    public static final int SIZE = 2500;
+
+    private static final String CURSOR_PREFIX = "recruit:";
+    private static final List<String> LOCATIONS = Arrays.asList("New York, NY", "Los Angeles, CA", "Outer Space", "Unknown");
+
+    private final NavigableMap<String, SuperHero> recruits = new TreeMap<>();
+
+    private void init(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        for (int i = 1; i <= SIZE; i++) {
+            SuperHero recruit = new SuperHero(null,
+                                              Arrays.asList("Enthusiasm"),
+                                              LOCATIONS.get(i % LOCATIONS.size()),
+                                              getName(i),
+                                              "Trainee " + i);
+            recruits.put(recruit.getName(), recruit);
+        }
+    }
+
+    public static String getName(int number) {
+        return String.format("Recruit %05d", number);
+    }
+
+    public Connection<SuperHero> getPage(PageRequest page) {
+        NavigableMap<String, SuperHero> range = recruits;
+        if (page.getAfter() != null) {
+            range = range.tailMap(fromCursor(page.getAfter()), false);
+        }
+        if (page.getBefore() != null) {
+            range = range.headMap(fromCursor(page.getBefore()), false);
+        }
+
+        List<SuperHero> heroes = new ArrayList<>(range.values());
+        boolean hasPreviousPage = page.getAfter() != null && !recruits.headMap(fromCursor(page.getAfter()), true).isEmpty();
+        boolean hasNextPage = page.getBefore() != null && !recruits.tailMap(fromCursor(page.getBefore()), true).isEmpty();
+        if (page.getFirst() != null && heroes.size() > page.getFirst()) {
+            heroes = heroes.subList(0, page.getFirst());
+            hasNextPage = true;
+        }
+        if (page.getLast() != null && heroes.size() > page.getLast()) {
+            heroes = heroes.subList(heroes.size() - page.getLast(), heroes.size());
+            hasPreviousPage = true;
+        }
+
+        List<Edge<SuperHero>> edges = new ArrayList<>();
+        for (SuperHero hero : heroes) {
+            edges.add(new Edge<>(hero, toCursor(hero.getName())));
+        }
+        String startCursor = edges.isEmpty() ? null : edges.get(0).getCursor();
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return new Connection<>(edges, new PageInfo(hasPreviousPage, hasNextPage, startCursor, endCursor));
+    }
+
+    private static String toCursor(String name) {
+        return Base64.getEncoder().encodeToString((CURSOR_PREFIX + name).getBytes(UTF_8));
+    }
+
+    private static String fromCursor(String cursor) {
+        String decoded = new String(Base64.getDecoder().decode(cursor), UTF_8);
+        if (!decoded.startsWith(CURSOR_PREFIX)) {
+            throw new IllegalArgumentException("Invalid cursor [" + cursor + "]");
+        }
+        return decoded.substring(CURSOR_PREFIX.length());
+    }
+}
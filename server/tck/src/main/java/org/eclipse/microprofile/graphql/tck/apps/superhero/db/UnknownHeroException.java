@@ -19,6 +19,7 @@ package org.eclipse.microprofile.graphql.tck.apps.superhero.db;
 public class UnknownHeroException extends Exception {
 
     public UnknownHeroException(String message) {
-        super(message);
+        // Expected on every lookup miss, so skip the cost of filling in the stack trace
+        super(message, null, false, false);
     }
 }
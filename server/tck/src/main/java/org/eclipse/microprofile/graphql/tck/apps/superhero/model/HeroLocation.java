@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.superhero.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.Description;
+
+@Description("Where a hero was seen")
+public class HeroLocation {
+    private String heroName;
+    private List<BigDecimal> coordinates;
+
+    public HeroLocation() {
+    }
+
+    public HeroLocation(String heroName, List<BigDecimal> coordinates) {
+        this.heroName = heroName;
+        this.coordinates = (coordinates == null) ? null : new ArrayList<>(coordinates);
+    }
+
+    public String getHeroName() {
+        return heroName;
+    }
+
+    public void setHeroName(String heroName) {
+        this.heroName = heroName;
+    }
+
+    public List<BigDecimal> getCoordinates() {
+        return coordinates;
+    }
+
+    public void setCoordinates(List<BigDecimal> coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    @Override
+    public String toString() {
+        return "HeroLocation{"
+                + "heroName=" + heroName
+                + ", coordinates=" + coordinates + "}";
+    }
+}
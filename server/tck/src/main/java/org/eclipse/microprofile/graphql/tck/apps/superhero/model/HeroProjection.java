@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.superhero.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.Description;
+import org.eclipse.microprofile.graphql.SelectedField;
+
+@Description("The selected fields of a hero, loaded the way a projection in a database query would")
+public class HeroProjection {
+    private String name;
+    private String realName;
+    private String primaryLocation;
+    private List<String> superPowers;
+    private List<Team> teamAffiliations;
+    private List<String> selectedFields;
+
+    public HeroProjection() {
+    }
+
+    /**
+     * Only copy the fields that were selected, and keep the paths of all selected fields
+     * @param hero the hero to project
+     * @param fields the fields selected by the client
+     * @return the projection
+     */
+    public static HeroProjection of(SuperHero hero, List<SelectedField> fields) {
+        HeroProjection projection = new HeroProjection();
+        for (SelectedField field : fields) {
+            switch (field.getName()) {
+                case "name":
+                    projection.setName(hero.getName());
+                    break;
+                case "realName":
+                    projection.setRealName(hero.getRealName());
+                    break;
+                case "primaryLocation":
+                    projection.setPrimaryLocation(hero.getPrimaryLocation());
+                    break;
+                case "superPowers":
+                    projection.setSuperPowers(hero.getSuperPowers());
+                    break;
+                case "teamAffiliations":
+                    projection.setTeamAffiliations(hero.getTeamAffiliations());
+                    break;
+                default:
+                    break;
+            }
+        }
+        List<String> paths = new ArrayList<>();
+        addPaths("", fields, paths);
+        projection.setSelectedFields(paths);
+        return projection;
+    }
+
+    private static void addPaths(String parent, List<SelectedField> fields, List<String> paths) {
+        for (SelectedField field : fields) {
+            String path = parent + (field.getAlias() == null ? field.getName() : field.getAlias() + ":" + field.getName());
+            paths.add(path);
+            addPaths(path + "/", field.getSelectedFields(), paths);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getRealName() {
+        return realName;
+    }
+
+    public void setRealName(String realName) {
+        this.realName = realName;
+    }
+
+    public String getPrimaryLocation() {
+        return primaryLocation;
+    }
+
+    public void setPrimaryLocation(String primaryLocation) {
+        this.primaryLocation = primaryLocation;
+    }
+
+    public List<String> getSuperPowers() {
+        return superPowers;
+    }
+
+    public void setSuperPowers(List<String> superPowers) {
+        this.superPowers = superPowers;
+    }
+
+    public List<Team> getTeamAffiliations() {
+        return teamAffiliations;
+    }
+
+    public void setTeamAffiliations(List<Team> teamAffiliations) {
+        this.teamAffiliations = teamAffiliations;
+    }
+
+    @Description("The paths of the fields that were selected on the hero, as alias:name when there is an alias")
+    public List<String> getSelectedFields() {
+        return selectedFields;
+    }
+
+    public void setSelectedFields(List<String> selectedFields) {
+        this.selectedFields = selectedFields;
+    }
+
+    @Override
+    public String toString() {
+        return "HeroProjection{"
+                + "name=" + name
+                + ", selectedFields=" + selectedFields + "}";
+    }
+}
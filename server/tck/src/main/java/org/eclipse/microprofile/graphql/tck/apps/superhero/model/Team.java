@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.json.bind.annotation.JsonbDateFormat;
 
+import org.eclipse.microprofile.graphql.CacheControl;
+import org.eclipse.microprofile.graphql.Id;
 import org.eclipse.microprofile.graphql.NonNull;
 
 public class Team {
@@ -45,6 +47,16 @@ public class Team {
         return name;
     }
 
+    /**
+     * The name of a team is unique, so it is also the id
+     * @return the id of the team
+     */
+    @Id
+    public String getId() {
+        return name;
+    }
+
+    @CacheControl(maxAge = 60)
     public List<@NonNull SuperHero> getMembers() {
         return members;
     }
@@ -83,6 +95,7 @@ public class Team {
         this.rivalTeam = rivalTeam;
     }
 
+    @CacheControl(maxAge = 30, scope = CacheControl.Scope.PRIVATE)
     public OffsetTime getDailyStandupMeeting() {
         return dailyStandupMeeting;
     }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.apps.upload.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.Description;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.GraphQLException;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.NonNull;
+import org.eclipse.microprofile.graphql.Upload;
+
+/**
+ * Reads uploaded files as a stream, so that an upload can be much larger than the heap of the server.
+ */
+@GraphQLApi
+public class UploadApi {
+    private static final int BUFFER_SIZE = 8192;
+
+    @Mutation
+    @Description("Reads the file and returns its size and SHA-256 checksum")
+    public UploadResult upload(@Name("file") @NonNull Upload file) throws GraphQLException {
+        return read(file);
+    }
+
+    @Mutation
+    @Description("Reads the files and returns their sizes and SHA-256 checksums, in the same order")
+    public List<UploadResult> uploadAll(@Name("files") @NonNull List<Upload> files) throws GraphQLException {
+        List<UploadResult> results = new ArrayList<>();
+        for (Upload file : files) {
+            results.add(read(file));
+        }
+        return results;
+    }
+
+    private static UploadResult read(Upload file) throws GraphQLException {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+            if (size != file.getSize()) {
+                throw new GraphQLException("Read " + size + " bytes from " + file.getFileName()
+                        + ", but its size is " + file.getSize());
+            }
+            return new UploadResult(file.getFileName(), file.getContentType(), size, Hex.toHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new GraphQLException("Could not read " + file.getFileName(), e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.logging.Logger;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Measures the throughput of superHero lookups that miss, where every field throws a checked exception, and of the
+ * same lookups that hit, and logs both. The results depend on the implementation and the machine, so no minimum is
+ * asserted; compare them between runs and with the hits to see the cost of an error. The number of requests can be
+ * changed with the 'mp.tck.benchmark.requests' system property.
+ */
+public class ErrorBenchmarkTest extends Arquillian {
+    private static final Logger LOG = Logger.getLogger(ErrorBenchmarkTest.class.getName());
+
+    private static final int REQUESTS = Integer.getInteger("mp.tck.benchmark.requests", 200);
+    private static final int WARMUP_REQUESTS = REQUESTS / 4;
+    private static final int FIELDS = 50;
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        return DeployableUnit.getDeployment("tck-benchmark-errors");
+    }
+
+    @RunAsClient
+    @Test
+    public void testMissThroughput() throws IOException {
+        String query = createQuery(true);
+        GraphQLClient client = new GraphQLClient(uri);
+        run(client, query, WARMUP_REQUESTS, true);
+        long nanos = run(client, query, REQUESTS, true);
+        LOG.info(String.format("superHero misses: %.0f fields/s (%d requests of %d fields in %d ms)",
+                fieldsPerSecond(nanos), REQUESTS, FIELDS, nanos / 1000000));
+    }
+
+    @RunAsClient
+    @Test
+    public void testHitThroughput() throws IOException {
+        String query = createQuery(false);
+        GraphQLClient client = new GraphQLClient(uri);
+        run(client, query, WARMUP_REQUESTS, false);
+        long nanos = run(client, query, REQUESTS, false);
+        LOG.info(String.format("superHero hits: %.0f fields/s (%d requests of %d fields in %d ms)",
+                fieldsPerSecond(nanos), REQUESTS, FIELDS, nanos / 1000000));
+    }
+
+    private static long run(GraphQLClient client, String query, int requests, boolean miss) throws IOException {
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            JsonObject response = client.execute(query);
+            JsonArray errors = response.getJsonArray("errors");
+            if (miss) {
+                Assert.assertNotNull(errors, "Expecting an error for every unknown hero " + response);
+                Assert.assertEquals(errors.size(), FIELDS, "Expecting an error for every unknown hero " + errors);
+            } else {
+                Assert.assertNull(errors, "Not expecting errors for known heroes " + errors);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double fieldsPerSecond(long nanos) {
+        return (double) REQUESTS * FIELDS * 1000000000L / nanos;
+    }
+
+    private static String createQuery(boolean miss) {
+        StringBuilder query = new StringBuilder("query {");
+        for (int i = 0; i < FIELDS; i++) {
+            String name = miss ? "Unknown Hero " + i : "Iron Man";
+            query.append(" h").append(i).append(": superHero(name: \"").append(name).append("\") { name }");
+        }
+        return query.append(" }").toString();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.logging.Logger;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.tck.apps.benchmark.api.BenchmarkApi;
+import org.eclipse.microprofile.graphql.tck.apps.stress.api.LazyList;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Throws a million exceptions (half of them on the showErrorMessage list and half on the hideErrorMessage list, both
+ * transitively) and checks that every error has the configured message. Logs the number of errors per second; as this
+ * depends on the implementation and the machine, no minimum is asserted. The number of exceptions can be changed with
+ * the 'mp.tck.benchmark.exceptions' system property.
+ */
+public class ErrorClassificationBenchmarkTest extends Arquillian {
+    private static final Logger LOG = Logger.getLogger(ErrorClassificationBenchmarkTest.class.getName());
+
+    private static final int EXCEPTIONS = Integer.getInteger("mp.tck.benchmark.exceptions", 1000000);
+    private static final int READ_TIMEOUT = Integer.getInteger("mp.tck.benchmark.timeout", 60000);
+    private static final int ITEMS_PER_REQUEST = 5000;
+    private static final String DEFAULT_ERROR_MESSAGE = "Unexpected failure in the system. Jarvis is working to fix it.";
+
+    private static final String QUERY = "query benchmarkErrors($count: Int!) {\n"
+            + "  benchmarkItems(count: $count) {\n"
+            + "    flaw\n"
+            + "    csvExport\n"
+            + "  }\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        return DeployableUnit.getDeployment("tck-benchmark-classification")
+                .as(WebArchive.class)
+                .addPackage(BenchmarkApi.class.getPackage())
+                .addClass(LazyList.class);
+    }
+
+    @RunAsClient
+    @Test
+    public void testErrorClassificationThroughput() throws IOException {
+        GraphQLClient client = new GraphQLClient(uri, READ_TIMEOUT);
+        // Two exceptions per item
+        int requests = Math.max(1, EXCEPTIONS / (2 * ITEMS_PER_REQUEST));
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            JsonObject response = client.execute(QUERY, Json.createObjectBuilder().add("count", ITEMS_PER_REQUEST).build());
+            assertErrors(response.getJsonArray("errors"));
+        }
+        long nanos = System.nanoTime() - start;
+        long errors = (long) requests * 2 * ITEMS_PER_REQUEST;
+        LOG.info(String.format("Error classification: %.0f errors/s (%d errors in %d requests in %d ms)",
+                (double) errors * 1000000000L / nanos, errors, requests, nanos / 1000000));
+    }
+
+    private static void assertErrors(JsonArray errors) {
+        Assert.assertNotNull(errors, "Expecting an error for every field");
+        Assert.assertEquals(errors.size(), 2 * ITEMS_PER_REQUEST, "Expecting an error for every field");
+        for (JsonObject error : errors.getValuesAs(JsonObject.class)) {
+            JsonArray path = error.getJsonArray("path");
+            int index = path.getJsonNumber(1).intValue();
+            String field = path.getString(2);
+            String expected = "flaw".equals(field) ? "Item " + index + " has no flaw" : DEFAULT_ERROR_MESSAGE;
+            Assert.assertEquals(error.getString("message"), expected, "Wrong message for " + path);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.tck.apps.benchmark.api.BenchmarkApi;
+import org.eclipse.microprofile.graphql.tck.apps.benchmark.api.BenchmarkItem;
+import org.eclipse.microprofile.graphql.tck.apps.stress.api.LazyList;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Requests 100k items with a @NumberFormat BigDecimal and a @DateFormat LocalDate, from several threads at the same
+ * time, and checks every formatted value, so that a formatter that is shared between threads without being thread safe
+ * fails the test. The same items are first requested with two unformatted fields as a baseline, and the formatted
+ * requests must reach a fixed fraction of its throughput, so that creating a formatter for every value fails the test.
+ */
+public class FormatBenchmarkTest extends Arquillian {
+    private static final Logger LOG = Logger.getLogger(FormatBenchmarkTest.class.getName());
+
+    private static final int ITEMS = 100000;
+    private static final int THREADS = Integer.getInteger("mp.tck.benchmark.threads", 4);
+    private static final int REQUESTS_PER_THREAD = 2;
+    private static final int READ_TIMEOUT = Integer.getInteger("mp.tck.benchmark.timeout", 60000);
+    // The formatted values are longer strings, so some of the difference is transfer and serialization
+    private static final double MIN_FRACTION_OF_BASELINE = 0.25;
+
+    private static final String QUERY = "query benchmarkFormats($count: Int!) {\n"
+            + "  benchmarkItems(count: $count) {\n"
+            + "    amount\n"
+            + "    date\n"
+            + "  }\n"
+            + "}";
+
+    private static final String BASELINE_QUERY = "query benchmarkBaseline($count: Int!) {\n"
+            + "  benchmarkItems(count: $count) {\n"
+            + "    index\n"
+            + "    cents\n"
+            + "  }\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        return DeployableUnit.getDeployment("tck-benchmark-format")
+                .as(WebArchive.class)
+                .addPackage(BenchmarkApi.class.getPackage())
+                .addClass(LazyList.class);
+    }
+
+    @RunAsClient
+    @Test
+    public void testFormatThroughput() throws Exception {
+        GraphQLClient client = new GraphQLClient(uri, READ_TIMEOUT);
+        double baseline = valuesPerSecond(client, "Unformatted", BASELINE_QUERY, FormatBenchmarkTest::assertUnformatted);
+        double formatted = valuesPerSecond(client, "Formatted", QUERY, FormatBenchmarkTest::assertFormatted);
+        Assert.assertTrue(formatted >= baseline * MIN_FRACTION_OF_BASELINE, String.format(
+                "Expecting at least %.0f%% of the %.0f unformatted values per second, but got %.0f formatted values per second",
+                MIN_FRACTION_OF_BASELINE * 100, baseline, formatted));
+    }
+
+    private static double valuesPerSecond(GraphQLClient client, String name, String query, Consumer<JsonObject> check)
+            throws IOException, InterruptedException {
+        JsonObject variables = Json.createObjectBuilder().add("count", ITEMS).build();
+        // Warm up, and create the formatters if they are created on first use
+        check.accept(client.execute(query, variables));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    // Only the requests are timed, checking the values is the work of the client
+                    long nanos = 0;
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        long start = System.nanoTime();
+                        JsonObject response = client.execute(query, variables);
+                        nanos += System.nanoTime() - start;
+                        check.accept(response);
+                    }
+                    return nanos;
+                }));
+            }
+            long nanos = 0;
+            for (Future<Long> future : futures) {
+                nanos = Math.max(nanos, get(future));
+            }
+
+            long values = 2L * ITEMS * THREADS * REQUESTS_PER_THREAD;
+            double valuesPerSecond = (double) values * 1000000000L / nanos;
+            LOG.info(String.format("%s values: %.0f values/s (%d values in %d requests on %d threads in %d ms)",
+                    name, valuesPerSecond, values, THREADS * REQUESTS_PER_THREAD, THREADS, nanos / 1000000));
+            return valuesPerSecond;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long get(Future<Long> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static JsonArray getItems(JsonObject response) {
+        Assert.assertFalse(response.containsKey("errors"), "Not expecting errors in the response " + response.get("errors"));
+        JsonArray items = response.getJsonObject("data").getJsonArray("benchmarkItems");
+        Assert.assertEquals(items.size(), ITEMS, "Wrong number of items");
+        return items;
+    }
+
+    private static void assertUnformatted(JsonObject response) {
+        JsonArray items = getItems(response);
+        for (int i = 0; i < ITEMS; i++) {
+            JsonObject item = items.getJsonObject(i);
+            Assert.assertEquals(item.getInt("index"), i, "Wrong index of item " + i);
+            Assert.assertEquals(item.getJsonNumber("cents").longValue(), new BenchmarkItem(i).getCents(), "Wrong cents of item " + i);
+        }
+    }
+
+    private static void assertFormatted(JsonObject response) {
+        JsonArray items = getItems(response);
+
+        // Created here, as DecimalFormat is not thread safe
+        DecimalFormat amountFormat = new DecimalFormat("\u00a4 ###,###.##", DecimalFormatSymbols.getInstance(Locale.US));
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd MMMM yyyy", Locale.US);
+        for (int i = 0; i < ITEMS; i++) {
+            BenchmarkItem item = new BenchmarkItem(i);
+            JsonObject formatted = items.getJsonObject(i);
+            Assert.assertEquals(formatted.getString("amount"), amountFormat.format(item.getAmount()), "Wrong amount of item " + i);
+            Assert.assertEquals(formatted.getString("date"), dateFormat.format(item.getDate()), "Wrong date of item " + i);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.util.UUID;
+import java.util.logging.Logger;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import org.testng.Assert;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Simple client to send GraphQL requests over HTTP POST, for the tests that are not data driven
+ */
+public class GraphQLClient {
+    private static final Logger LOG = Logger.getLogger(GraphQLClient.class.getName());
+
+    public static final String MEDIATYPE_JSON = "application/json";
+    public static final String MEDIATYPE_MULTIPART = "multipart/form-data";
+
+    private static final String PATH = "graphql";
+    private static final int CONNECT_TIMEOUT = Integer.getInteger("mp.tck.connect.timeout", 5000);
+    private static final int READ_TIMEOUT = Integer.getInteger("mp.tck.read.timeout", 5000);
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final String CRLF = "\r\n";
+
+    private final URI uri;
+    private final int readTimeout;
+
+    public GraphQLClient(URI uri) {
+        this(uri, READ_TIMEOUT);
+    }
+
+    /**
+     * Create a client for responses that take longer than the default read timeout
+     * @param uri the context root of the application
+     * @param readTimeout the read timeout in milliseconds
+     */
+    public GraphQLClient(URI uri, int readTimeout) {
+        this.uri = uri;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Execute the request and return the JSON response, failing if the HTTP status is not 200
+     * @param graphQL the query or mutation
+     * @return the response
+     * @throws IOException if the request could not be sent
+     */
+    public JsonObject execute(String graphQL) throws IOException {
+        return execute(graphQL, null);
+    }
+
+    /**
+     * Execute the request and return the JSON response, failing if the HTTP status is not 200
+     * @param graphQL the query or mutation
+     * @param variables the variables, can be null
+     * @return the response
+     * @throws IOException if the request could not be sent
+     */
+    public JsonObject execute(String graphQL, JsonObject variables) throws IOException {
+        return execute(createBody(graphQL, variables));
+    }
+
+    /**
+     * Execute the request and return the JSON response, failing if the HTTP status is not 200
+     * @param body the complete request body, for requests that do not send a query
+     * @return the response
+     * @throws IOException if the request could not be sent
+     */
+    public JsonObject execute(JsonObject body) throws IOException {
+        return read(post(body, MEDIATYPE_JSON));
+    }
+
+    /**
+     * Execute a request with files, and return the JSON response, failing if the HTTP status is not 200
+     * @param operations the request body, with null for the variables that are files
+     * @param map the names of the files mapped to the paths of their variables in the operations
+     * @param files the files, named by their index
+     * @return the response
+     * @throws IOException if the request could not be sent
+     */
+    public JsonObject executeMultipart(JsonObject operations, JsonObject map, FilePart... files) throws IOException {
+        return read(postMultipart(operations, map, files));
+    }
+
+    /**
+     * Post the request, leaving it to the caller to read the response and disconnect
+     * @param graphQL the query, mutation or subscription
+     * @param variables the variables, can be null
+     * @param accept the media type to accept
+     * @return the connection
+     * @throws IOException if the request could not be sent
+     */
+    public HttpURLConnection post(String graphQL, JsonObject variables, String accept) throws IOException {
+        return post(createBody(graphQL, variables), accept);
+    }
+
+    /**
+     * Post the request body, leaving it to the caller to read the response and disconnect
+     * @param body the complete request body
+     * @param accept the media type to accept
+     * @return the connection
+     * @throws IOException if the request could not be sent
+     */
+    public HttpURLConnection post(JsonObject body, String accept) throws IOException {
+        URL url = new URL(this.uri + PATH);
+        LOG.info("Posting [" + body + "] to " + url);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setConnectTimeout(CONNECT_TIMEOUT);
+        connection.setReadTimeout(readTimeout);
+        connection.setRequestProperty("Content-Type", MEDIATYPE_JSON);
+        connection.setRequestProperty("Accept", accept);
+        connection.setDoOutput(true);
+        try (OutputStream os = connection.getOutputStream()) {
+            byte[] bytes = body.toString().getBytes(UTF_8);
+            os.write(bytes, 0, bytes.length);
+        }
+        return connection;
+    }
+
+    /**
+     * Post a multipart/form-data request with the operations, the map and the files, leaving it to the caller to read
+     * the response and disconnect. The body is streamed, so the files are never held in memory.
+     * @param operations the request body, with null for the variables that are files
+     * @param map the names of the files mapped to the paths of their variables in the operations
+     * @param files the files, named by their index
+     * @return the connection
+     * @throws IOException if the request could not be sent
+     */
+    public HttpURLConnection postMultipart(JsonObject operations, JsonObject map, FilePart... files) throws IOException {
+        URL url = new URL(this.uri + PATH);
+        LOG.info("Posting [" + operations + "] with " + files.length + " files to " + url);
+        String boundary = UUID.randomUUID().toString();
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setConnectTimeout(CONNECT_TIMEOUT);
+        connection.setReadTimeout(readTimeout);
+        connection.setRequestProperty("Content-Type", MEDIATYPE_MULTIPART + "; boundary=" + boundary);
+        connection.setRequestProperty("Accept", MEDIATYPE_JSON);
+        connection.setDoOutput(true);
+        // Without a streaming mode the connection buffers the complete body to compute its length
+        connection.setChunkedStreamingMode(CHUNK_SIZE);
+        try (OutputStream os = connection.getOutputStream()) {
+            writePart(os, boundary, "name=\"operations\"", MEDIATYPE_JSON);
+            os.write(operations.toString().getBytes(UTF_8));
+            writePart(os, boundary, "name=\"map\"", MEDIATYPE_JSON);
+            os.write(map.toString().getBytes(UTF_8));
+            for (int i = 0; i < files.length; i++) {
+                writePart(os, boundary, "name=\"" + i + "\"; filename=\"" + files[i].getName() + "\"", files[i].getContentType());
+                files[i].writeTo(os);
+            }
+            os.write((CRLF + "--" + boundary + "--" + CRLF).getBytes(UTF_8));
+        }
+        return connection;
+    }
+
+    private static void writePart(OutputStream os, String boundary, String disposition, String contentType) throws IOException {
+        String headers = CRLF + "--" + boundary + CRLF
+                + "Content-Disposition: form-data; " + disposition + CRLF
+                + "Content-Type: " + contentType + CRLF
+                + CRLF;
+        os.write(headers.getBytes(UTF_8));
+    }
+
+    private static JsonObject read(HttpURLConnection connection) throws IOException {
+        try {
+            Assert.assertEquals(connection.getResponseCode(), 200, connection.getResponseMessage());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8))) {
+                StringBuilder response = new StringBuilder();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    response.append(line);
+                }
+                return toJsonObject(response.toString());
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static JsonObject createBody(String graphQL, JsonObject variables) {
+        JsonObjectBuilder body = Json.createObjectBuilder().add("query", graphQL);
+        if (variables != null && !variables.isEmpty()) {
+            body.add("variables", variables);
+        }
+        return body.build();
+    }
+
+    public static JsonObject toJsonObject(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+
+    /**
+     * A file that is sent with {@link #postMultipart(JsonObject, JsonObject, FilePart...)}
+     */
+    public interface FilePart {
+        String getName();
+
+        String getContentType();
+
+        /**
+         * Write the content of the file
+         * @param os the stream to write to
+         * @throws IOException if the content could not be written
+         */
+        void writeTo(OutputStream os) throws IOException;
+    }
+}
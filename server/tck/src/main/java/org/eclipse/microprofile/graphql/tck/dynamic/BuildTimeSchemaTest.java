@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.dynamic;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Runs the same schema snippets as {@link SchemaDynamicValidityTest} against the schema that was generated at build
+ * time, and checks that it defines the same types as the schema served by the runtime. The build time schema is read
+ * from the file in the 'mp.tck.buildTimeSchema' system property, or else from META-INF/microprofile-graphql/schema.graphql
+ * on the classpath. The tests are skipped when there is no build time schema, as generating it is optional.
+ * The deployment is the same as the one of {@link SchemaDynamicValidityTest}.
+ */
+public class BuildTimeSchemaTest extends SchemaDynamicValidityTest {
+    private static final Logger LOG = Logger.getLogger(BuildTimeSchemaTest.class.getName());
+    private static final String RESOURCE = "META-INF/microprofile-graphql/schema.graphql";
+    private static final String PROPERTY = "mp.tck.buildTimeSchema";
+    private static final String[] KINDS = {"type ", "input ", "interface ", "enum ", "scalar ", "union ", "directive "};
+
+    @BeforeClass
+    public void checkBuildTimeSchema() {
+        if (System.getProperty(PROPERTY) == null && getClassLoader().getResource(RESOURCE) == null) {
+            throw new SkipException("No build time schema found in " + RESOURCE + " or the " + PROPERTY + " system property");
+        }
+    }
+
+    @Override
+    protected String loadSchema() throws IOException {
+        String file = System.getProperty(PROPERTY);
+        if (file != null) {
+            LOG.log(Level.INFO, "Reading build time schema from {0}", file);
+            return new String(Files.readAllBytes(Paths.get(file)), UTF_8);
+        }
+        LOG.log(Level.INFO, "Reading build time schema from {0}", RESOURCE);
+        try (InputStream in = getClassLoader().getResourceAsStream(RESOURCE);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+
+    @Override
+    protected String getSchemaFileName() {
+        return "build-time-schema.graphql";
+    }
+
+    @RunAsClient
+    @Test(priority = 3)
+    public void testSameDefinitionsAsRuntime() throws IOException {
+        Set<String> buildTime = getDefinitions(loadSchema());
+        Set<String> runtime = getDefinitions(getSchemaContent());
+
+        Assert.assertEquals(buildTime, runtime, "The build time schema does not define the same types as the runtime schema");
+    }
+
+    /**
+     * The definitions in a schema, as their first line without the opening brace, like 'type SuperHero implements Character'
+     */
+    private static Set<String> getDefinitions(String schema) {
+        Set<String> definitions = new TreeSet<>();
+        for (String line : schema.split("\n")) {
+            for (String kind : KINDS) {
+                if (line.startsWith(kind)) {
+                    definitions.add(line.replace("{", "").trim().replaceAll("\\s+", " "));
+                }
+            }
+        }
+        return definitions;
+    }
+
+    private static ClassLoader getClassLoader() {
+        return Thread.currentThread().getContextClassLoader();
+    }
+}
@@ -38,10 +38,21 @@ public class DeployableUnit {
     private DeployableUnit(){}
     
     public static Archive<?> getDeployment(String unitName) throws Exception {
+        return getDeployment(unitName, new Properties());
+    }
+
+    /**
+     * Create the deployable unit with extra (or overridden) config properties
+     * @param unitName the name of the deployable unit
+     * @param properties the config properties to add to the default TCK properties
+     * @return the deployable unit
+     * @throws Exception if the config properties can not be written
+     */
+    public static Archive<?> getDeployment(String unitName, Properties properties) throws Exception {
         return ShrinkWrap.create(WebArchive.class, unitName + ".war")
                 .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
                 .addAsManifestResource(
-                        new StringAsset(getPropertyAsString()),
+                        new StringAsset(getPropertyAsString(properties)),
                         "microprofile-config.properties")
                 .addPackage(HeroFinder.class.getPackage())
                 .addPackage(HeroDatabase.class.getPackage())
@@ -49,9 +60,12 @@ public class DeployableUnit {
                 .addPackage(ScalarTestApi.class.getPackage());
     }
     
-    private static String getPropertyAsString() throws IOException {    
+    private static String getPropertyAsString(Properties properties) throws IOException {    
+        Properties all = new Properties();
+        all.putAll(PROPERTIES);
+        all.putAll(properties);
         StringWriter writer = new StringWriter();
-        PROPERTIES.store(writer,"TCK Properties");
+        all.store(writer,"TCK Properties");
         return writer.toString();
     }
 
@@ -61,6 +75,11 @@ public class DeployableUnit {
         PROPERTIES.put(ConfigKey.EXCEPTION_HIDE_ERROR_MESSAGE_LIST, "java.io.IOException,java.util.concurrent.TimeoutException");
         PROPERTIES.put(ConfigKey.EXCEPTION_SHOW_ERROR_MESSAGE_LIST, 
                        "org.eclipse.microprofile.graphql.tck.apps.superhero.api.WeaknessNotFoundException");
+        PROPERTIES.put(ConfigKey.MAX_QUERY_DEPTH, "10");
+        PROPERTIES.put(ConfigKey.MAX_QUERY_COMPLEXITY, "500");
+        PROPERTIES.put(ConfigKey.PERSISTED_QUERIES_ENABLED, "true");
+        PROPERTIES.put(ConfigKey.DOCUMENT_CACHE_MAX_SIZE, "100");
+        PROPERTIES.put(ConfigKey.BATCH_MAX_OPERATIONS, "5");
     }
 
 }
@@ -17,8 +17,10 @@
  */
 package org.eclipse.microprofile.graphql.tck.dynamic;
 
+import org.eclipse.microprofile.graphql.tck.dynamic.execution.IncrementalResult;
 import org.eclipse.microprofile.graphql.tck.dynamic.execution.PrintUtil;
 import org.eclipse.microprofile.graphql.tck.dynamic.execution.TestData;
+import org.eclipse.microprofile.graphql.tck.dynamic.execution.TracingExtension;
 import java.io.BufferedReader;
 import java.net.URL;
 import java.io.IOException;
@@ -33,19 +35,29 @@ import java.net.ProtocolException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.json.Json;
 import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonPatchBuilder;
 import javax.json.JsonReader;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
 import org.jboss.shrinkwrap.api.Archive;
 import org.json.JSONException;
 import org.skyscreamer.jsonassert.JSONAssert;
@@ -74,8 +86,18 @@ public class ExecutionDynamicTest extends Arquillian {
     private static final String MEDIATYPE_JSON = "application/json";
     private static final String HEADER_CONTENT_TYPE = "Content-Type";
     private static final String HEADER_ACCEPT = "Accept";
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    private static final String CACHE_CONTROL = "cacheControl";
+    private static final String MAX_AGE = "max-age";
+    private static final String NONE = "none";
     private static final String QUERY = "query";
     private static final String VARIABLES = "variables";
+    private static final String DATA = "data";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String PERSISTED_QUERY_NOT_FOUND = "PERSISTED_QUERY_NOT_FOUND";
+    private static final String OPERATION_NAME = "operationName";
+    private static final Pattern OPERATION = Pattern.compile("^\\s*(?:query|mutation)\\s+([_A-Za-z][_0-9A-Za-z]*)", Pattern.MULTILINE);
     private static final String EQUALS = "=";
     private static final String AND = "&";
     private static final int CONNECT_TIMEOUT = Integer.getInteger("mp.tck.connect.timeout", 5000);
@@ -141,7 +163,10 @@ public class ExecutionDynamicTest extends Arquillian {
                         executeHttpRequest(HttpMethod.POST, testData.getPrepare(),testData.getVariables(),httpHeaders);
                     }
 
-                    assertTest(input, testData, httpHeaders, httpMethod);
+                    // Run more than once if needed, every response must match
+                    for(int i = 0; i < testData.getRepeat(); i++){
+                        assertTest(input, testData, httpHeaders, httpMethod);
+                    }
                     success = true;
                     break;
                 } catch (AssertionError ae) {
@@ -159,46 +184,216 @@ public class ExecutionDynamicTest extends Arquillian {
     }
 
     private void assertTest(String input, TestData testData, Map<String, String> httpHeaders, HttpMethod httpMethod){
-        // We can only do Queries over GET
-        if(testData.isMutation()){
+        // We can only do Queries over GET, and batches are always POSTed
+        if(testData.isMutation() || testData.isBatch()){
             httpMethod = HttpMethod.POST;
         }
 
         // Run the actual test and get the response
-        HttpResponse httpResponse = executeHttpRequest(httpMethod, input,testData.getVariables(),httpHeaders);
+        HttpResponse httpResponse;
+        if(testData.isBatch()){
+            httpResponse = executeBatch(input, testData, httpHeaders);
+        }else if(testData.isPersistedQuery()){
+            httpResponse = executePersistedQuery(httpMethod, input, testData, httpHeaders);
+        }else{
+            httpResponse = executeHttpRequest(httpMethod, input,testData.getVariables(),httpHeaders);
+        }
         if(httpResponse.isSuccessful()){
             this.currentOutput = httpResponse.getContent();
 
+            // When incremental delivery is expected, the parts have already been checked and merged
+            if(testData.isIncremental()){
+                Assert.assertTrue(httpResponse.isIncremental(),
+                        "Expected an incremental (multipart/mixed) response, got [" + this.currentOutput + "]");
+            }else if(Boolean.FALSE.equals(testData.getIncremental())){
+                Assert.assertFalse(httpResponse.isIncremental(),
+                        "Expected a single (application/json) response, got an incremental (multipart/mixed) response");
+            }
+
             // Validate the output structure
             validateResponseStructure();
 
+            // Validate the combined cache control hints if needed
+            if(testData.getCacheControl()!=null){
+                assertCacheControl(testData.getCacheControl(), httpMethod, httpResponse);
+            }
+
+            // Validate the tracing extension if needed
+            if(testData.getTracing()!=null){
+                TracingExtension.assertTracing(this.currentOutput, testData.getTracing());
+            }
+
+            // Validate that the response has no data if needed, which a lenient compare can not check
+            if(testData.expectNoData()){
+                // A batch that is rejected as a whole has a single response, not an array of results
+                JsonStructure received = getJsonStructure(new StringReader(this.currentOutput));
+                Assert.assertTrue(received.getValueType().equals(JsonValue.ValueType.OBJECT) && !received.asJsonObject().containsKey(DATA),
+                        "Not expecting data in the response [" + this.currentOutput + "]");
+            }
+
             // Cleanup if needed
             if(isValidInput(testData.getCleanup())){
                 executeHttpRequest(HttpMethod.POST, testData.getCleanup(),testData.getVariables(),httpHeaders);
             }
 
-            boolean success = false;
-            ArrayList<Throwable> listExceptions = new ArrayList<>();
+            assertOutput(testData);
+        } else {
+            Assert.assertEquals(httpResponse.status, testData.getExpectedHttpStatusCode(),httpResponse.getContent());
+        }
+    }
 
-            // Compare to expected output and pass if at least one of the output files match
-            for (String output : testData.getOutput()) {
-                try {
+    /**
+     * Checks the combined cache control of a response, in the cacheControl extension and, for GET, in the
+     * Cache-Control header. An expected value of 'none' means that the response must not be cacheable.
+     */
+    private void assertCacheControl(String expected, HttpMethod httpMethod, HttpResponse httpResponse){
+        boolean cacheable = !expected.trim().equalsIgnoreCase(NONE);
+        Set<String> expectedDirectives = cacheable ? getDirectives(expected) : Collections.emptySet();
+
+        JsonObject extensions = getJsonObject(new StringReader(this.currentOutput)).getJsonObject(EXTENSIONS);
+        JsonObject cacheControl = extensions == null ? null : extensions.getJsonObject(CACHE_CONTROL);
+        if(cacheable){
+            Assert.assertNotNull(cacheControl, "Expecting a cacheControl extension");
+            Set<String> received = new HashSet<>();
+            received.add(MAX_AGE + EQUALS + cacheControl.getInt("maxAge"));
+            received.add(cacheControl.getString("scope").toLowerCase());
+            Assert.assertEquals(received, expectedDirectives, "Unexpected cacheControl extension");
+        }else if(cacheControl != null){
+            Assert.assertEquals(cacheControl.getInt("maxAge"), 0, "Not expecting a cacheable response");
+        }
+
+        String header = httpResponse.getHeader(HEADER_CACHE_CONTROL);
+        if(cacheable && HttpMethod.GET.equals(httpMethod)){
+            Assert.assertNotNull(header, "Expecting a " + HEADER_CACHE_CONTROL + " header on a GET request");
+            Assert.assertEquals(getDirectives(header), expectedDirectives, "Unexpected " + HEADER_CACHE_CONTROL + " header");
+        }else if(header != null){
+            Assert.assertFalse(getDirectives(header).stream().anyMatch(d -> d.startsWith(MAX_AGE + EQUALS) && !d.equals(MAX_AGE + "=0")),
+                    "Not expecting a max-age in the " + HEADER_CACHE_CONTROL + " header [" + header + "]");
+        }
+    }
+
+    private Set<String> getDirectives(String cacheControl){
+        Set<String> directives = new HashSet<>();
+        for(String directive : cacheControl.split(",")){
+            directives.add(directive.trim().toLowerCase().replace(" ", ""));
+        }
+        return directives;
+    }
+
+    private void assertOutput(TestData testData){
+        boolean success = false;
+        ArrayList<Throwable> listExceptions = new ArrayList<>();
+
+        // Compare to expected output and pass if at least one of the output files match
+        for (String output : testData.getOutput()) {
+            try {
+                if(testData.isBatch() && output.trim().startsWith("[")){
+                    assertBatchOutput(testData, output);
+                }else{
                     JSONAssert.assertEquals(testData.getFailMessage(), output, this.currentOutput, testData.beStrict());
-                    success = true;
-                    break;
-                } catch (AssertionError ex) {
-                    // don't raise assertion failure as this is checked below
-                    listExceptions.add(ex);
-                } catch (JSONException je) {
-                    // indicates some sort of JSON formatting exception
-                    Assert.fail(je.getMessage());
                 }
+                success = true;
+                break;
+            } catch (AssertionError ex) {
+                // don't raise assertion failure as this is checked below
+                listExceptions.add(ex);
+            } catch (JSONException je) {
+                // indicates some sort of JSON formatting exception
+                Assert.fail(je.getMessage());
             }
-            if (!success) {
-                Assert.fail(getErrorMessages(listExceptions));
+        }
+        if (!success) {
+            Assert.fail(getErrorMessages(listExceptions));
+        }
+    }
+
+    /**
+     * Compares the results of a batch one by one, as the results must be in the same order as the operations
+     */
+    private void assertBatchOutput(TestData testData, String output) throws JSONException {
+        JsonStructure received = getJsonStructure(new StringReader(this.currentOutput));
+        Assert.assertEquals(received.getValueType(), JsonValue.ValueType.ARRAY, "Expecting an array of results for a batch");
+        JsonArray expectedResults = getJsonStructure(new StringReader(output)).asJsonArray();
+        JsonArray receivedResults = received.asJsonArray();
+        Assert.assertEquals(receivedResults.size(), expectedResults.size(), "Expecting one result for every operation in the batch");
+        for(int i = 0; i < expectedResults.size(); i++){
+            JSONAssert.assertEquals(testData.getFailMessage() + " [operation " + i + "]",
+                    expectedResults.get(i).toString(), receivedResults.get(i).toString(), testData.beStrict());
+        }
+    }
+
+    /**
+     * Sends the named operations of the input (or the ones in the batchOperations property) together in one POST,
+     * as an array of requests that all have the same document and variables, and a different operationName
+     */
+    private HttpResponse executeBatch(String input, TestData testData, Map<String, String> httpHeaders){
+        List<String> operationNames = testData.getBatchOperations();
+        if(operationNames == null){
+            operationNames = new ArrayList<>();
+            Matcher matcher = OPERATION.matcher(input);
+            while(matcher.find()){
+                operationNames.add(matcher.group(1));
             }
-        } else {
-            Assert.assertEquals(httpResponse.status, testData.getExpectedHttpStatusCode(),httpResponse.getContent());
+        }
+        JsonArrayBuilder batch = Json.createArrayBuilder();
+        for(String operationName : operationNames){
+            batch.add(Json.createObjectBuilder(createRequestBody(input, testData.getVariables(), null))
+                    .add(OPERATION_NAME, operationName));
+        }
+        try {
+            return sendHttpRequest(HttpMethod.POST, new URL(this.uri + PATH), batch.build(), httpHeaders);
+        } catch (MalformedURLException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Runs the automatic persisted query flow: the hash alone must be unknown, then the document is registered
+     * together with its hash, and after that the hash alone must be enough to execute it.
+     * @return the response of the last (hash only) request
+     */
+    private HttpResponse executePersistedQuery(HttpMethod httpMethod, String input, TestData testData, Map<String, String> httpHeaders){
+        // Every run (GET and POST) uses a different document, so that the first request is always a cache miss
+        String document = input + "\n# " + httpMethod + " " + testData.getName();
+        JsonObject extensions = Json.createObjectBuilder()
+                .add(PERSISTED_QUERY, Json.createObjectBuilder()
+                        .add("version", 1)
+                        .add("sha256Hash", sha256(document)))
+                .build();
+
+        // Miss
+        HttpResponse miss = executeHttpRequest(httpMethod, null, testData.getVariables(), httpHeaders, extensions);
+        Assert.assertTrue(miss.isSuccessful(), "Expecting a 200 for an unknown persisted query, got " + miss.getStatus());
+        JsonArray errors = getJsonObject(new StringReader(miss.getContent())).getJsonArray("errors");
+        Assert.assertNotNull(errors, "Expecting an error for an unknown persisted query " + miss.getContent());
+        JsonObject errorExtensions = errors.getJsonObject(0).getJsonObject(EXTENSIONS);
+        Assert.assertNotNull(errorExtensions, "Expecting error extensions for an unknown persisted query " + miss.getContent());
+        Assert.assertEquals(errorExtensions.getString("code", null), PERSISTED_QUERY_NOT_FOUND,
+                "Unexpected error code for an unknown persisted query");
+
+        // Register
+        HttpResponse register = executeHttpRequest(httpMethod, document, testData.getVariables(), httpHeaders, extensions);
+        if(!register.isSuccessful()){
+            return register;
+        }
+        this.currentOutput = register.getContent();
+        validateResponseStructure();
+        assertOutput(testData);
+
+        // Hit
+        return executeHttpRequest(httpMethod, null, testData.getVariables(), httpHeaders, extensions);
+    }
+
+    private String sha256(String document){
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(document.getBytes(UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for(byte b : hash){
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new RuntimeException(ex);
         }
     }
 
@@ -214,9 +409,21 @@ public class ExecutionDynamicTest extends Arquillian {
     }
 
     private void validateResponseStructure(){
-        JsonObject received = getJsonObject(new StringReader(this.currentOutput));
+        JsonStructure received = getJsonStructure(new StringReader(this.currentOutput));
+        if(received.getValueType().equals(JsonValue.ValueType.ARRAY)){
+            // The response to a batch, every result must be a valid response
+            for(JsonValue result : received.asJsonArray()){
+                Assert.assertEquals(result.getValueType(), JsonValue.ValueType.OBJECT, "Every result of a batch must be an object");
+                validateResponseStructure(result.asJsonObject());
+            }
+        }else{
+            validateResponseStructure(received.asJsonObject());
+        }
+    }
+
+    private void validateResponseStructure(JsonObject received){
         JsonArray errors = received.getJsonArray("errors");
-        validatePart(received,"root","data","errors");
+        validatePart(received,"root","data","errors","extensions");
         if(errors!=null){
             for(JsonObject errorJsonObject: errors.getValuesAs(JsonObject.class)){
                 JsonArray locations = errorJsonObject.getJsonArray("locations");
@@ -258,6 +465,11 @@ public class ExecutionDynamicTest extends Arquillian {
         JsonReader expectedReader = Json.createReader(input);
         return expectedReader.readObject();
     }
+
+    private JsonStructure getJsonStructure(Reader input){
+        JsonReader expectedReader = Json.createReader(input);
+        return expectedReader.read();
+    }
     
     private boolean isValidInput(String input){
         return input!=null && !input.isEmpty();
@@ -283,25 +495,48 @@ public class ExecutionDynamicTest extends Arquillian {
             String graphQL, 
             JsonObject variables, 
             Map<String, String> httpHeaders){
+        return executeHttpRequest(httpMethod, graphQL, variables, httpHeaders, null);
+    }
+
+    private HttpResponse executeHttpRequest(HttpMethod httpMethod, 
+            String graphQL, 
+            JsonObject variables, 
+            Map<String, String> httpHeaders,
+            JsonObject extensions){
+        try {
+            URL url = getURL(httpMethod,graphQL, variables, extensions);
+            JsonObject body = HttpMethod.POST.equals(httpMethod) ? createRequestBody(graphQL, variables, extensions) : null;
+            return sendHttpRequest(httpMethod, url, body, httpHeaders);
+        } catch (IOException | URISyntaxException ex) {
+            LOG.log(Level.SEVERE, "Caught exception attempting to create the URL for an HTTP request", ex);
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private HttpResponse sendHttpRequest(HttpMethod httpMethod, 
+            URL url, 
+            JsonStructure body, 
+            Map<String, String> httpHeaders){
         try {
-            
-            URL url = getURL(httpMethod,graphQL, variables);
-            
             HttpURLConnection connection = (HttpURLConnection) url.openConnection();
             connection.setRequestMethod(httpMethod.toString());
             setTimeouts(connection);
             addHeaders(connection,httpHeaders);
             connection.setDoOutput(true);
 
-            if(httpMethod.POST.equals(httpMethod)){
-                JsonObject body = createRequestBody(graphQL, variables);
+            if(body!=null){
                 postRequest(connection,body);
             }
             
             int status = connection.getResponseCode();
 
             if(status == 200) {
-                return new HttpResponse(status, getResponse(connection));
+                String contentType = connection.getContentType();
+                Map<String, List<String>> headers = connection.getHeaderFields();
+                if(IncrementalResult.isIncremental(contentType)){
+                    return new HttpResponse(status, IncrementalResult.merge(contentType, getRawResponse(connection)), true, headers);
+                }
+                return new HttpResponse(status, getResponse(connection), false, headers);
             }else{
                 return new HttpResponse(status, connection.getResponseMessage());
             }
@@ -309,7 +544,7 @@ public class ExecutionDynamicTest extends Arquillian {
         } catch (ProtocolException pex) {
             LOG.log(Level.SEVERE, "Caught ProtocolException attempting to " + httpMethod + " an HTTP request", pex);
             throw new RuntimeException(pex);
-        } catch (IOException | URISyntaxException ex) {
+        } catch (IOException ex) {
             LOG.log(Level.SEVERE, "Caught IOException attempting to " + httpMethod + " an HTTP request", ex);
             Assert.fail("Could not open a connection to the test server, is it running ?");
             throw new RuntimeException(ex);
@@ -337,14 +572,22 @@ public class ExecutionDynamicTest extends Arquillian {
 
     private URL getURL(HttpMethod httpMethod,
             String graphQL, 
-            JsonObject variables) throws MalformedURLException, URISyntaxException, UnsupportedEncodingException{
+            JsonObject variables,
+            JsonObject extensions) throws MalformedURLException, URISyntaxException, UnsupportedEncodingException{
         URL url = new URL(this.uri + PATH);
         
         if(HttpMethod.GET.equals(httpMethod)){
-            String query = QUERY + EQUALS + URLEncoder.encode(graphQL,"UTF8");
+            List<String> parameters = new ArrayList<>();
+            if(graphQL!=null && !graphQL.isEmpty()) {
+                parameters.add(QUERY + EQUALS + URLEncoder.encode(graphQL,"UTF8"));
+            }
             if(variables!=null && !variables.isEmpty()) {
-                query = query + AND + VARIABLES + EQUALS + URLEncoder.encode(variables.toString(),"UTF8");
+                parameters.add(VARIABLES + EQUALS + URLEncoder.encode(variables.toString(),"UTF8"));
+            }
+            if(extensions!=null && !extensions.isEmpty()) {
+                parameters.add(EXTENSIONS + EQUALS + URLEncoder.encode(extensions.toString(),"UTF8"));
             }
+            String query = String.join(AND, parameters);
             
             URI uri = new URI(url.getProtocol(), null, url.getHost(), url.getPort(), url.getPath(), query, null);
             url = uri.toURL();
@@ -353,7 +596,7 @@ public class ExecutionDynamicTest extends Arquillian {
         return url;
     }
     
-    private JsonObject createRequestBody(String graphQL, JsonObject variables){
+    private JsonObject createRequestBody(String graphQL, JsonObject variables, JsonObject extensions){
         JsonObjectBuilder builder = Json.createObjectBuilder();
         if(graphQL!=null && !graphQL.isEmpty()) {
             builder.add(QUERY, graphQL);
@@ -361,10 +604,13 @@ public class ExecutionDynamicTest extends Arquillian {
         if(variables!=null && !variables.isEmpty()) {
             builder.add(VARIABLES, variables);
         }
+        if(extensions!=null && !extensions.isEmpty()) {
+            builder.add(EXTENSIONS, extensions);
+        }
         return builder.build();
     }
 
-    private void postRequest(HttpURLConnection connection,JsonObject body) throws IOException{
+    private void postRequest(HttpURLConnection connection,JsonStructure body) throws IOException{
         try(OutputStream os = connection.getOutputStream()) {
             byte[] input = body.toString().getBytes(UTF_8);
             os.write(input, 0, input.length);
@@ -391,13 +637,34 @@ public class ExecutionDynamicTest extends Arquillian {
         }
     }
     
+    private String getRawResponse(HttpURLConnection connection) throws IOException{
+        // Keep line breaks, they delimit the parts of a multipart response
+        try(BufferedReader br = new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8))) {
+            StringBuilder response = new StringBuilder();
+            String responseLine;
+            while ((responseLine = br.readLine()) != null) {
+                response.append(responseLine).append("\r\n");
+            }
+            connection.disconnect();
+            return response.toString();
+        }
+    }
+
     private static class HttpResponse {
         private final int status;
         private final String content;
+        private final boolean incremental;
+        private final Map<String, List<String>> headers;
 
         public HttpResponse(int status, String content) {
+            this(status, content, false, Collections.emptyMap());
+        }
+
+        public HttpResponse(int status, String content, boolean incremental, Map<String, List<String>> headers) {
             this.status = status;
             this.content = content;
+            this.incremental = incremental;
+            this.headers = headers;
         }
 
         public int getStatus() {
@@ -411,6 +678,19 @@ public class ExecutionDynamicTest extends Arquillian {
         public boolean isSuccessful(){
             return status==200;
         }
+
+        public boolean isIncremental(){
+            return incremental;
+        }
+
+        public String getHeader(String name){
+            for(Map.Entry<String, List<String>> header : headers.entrySet()){
+                if(name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()){
+                    return String.join(",", header.getValue());
+                }
+            }
+            return null;
+        }
     }
     
     enum HttpMethod{
@@ -66,14 +66,27 @@ public class SchemaDynamicValidityTest extends Arquillian {
     @RunAsClient
     @Test(priority = 1)
     public void testResponse() throws IOException {
-        LOG.log(Level.INFO, "Fetching schema from {0}", uri);
-        this.schema = getSchemaContent();
+        this.schema = loadSchema();
         saveSchemaFile();
         
         // Check that there is some content
         Assert.assertTrue(schema.length() > 0, "No Content in the GraphQL Schema downloaded from [" + uri + "]");
     }
 
+    /**
+     * Load the schema to test, by default the schema served by the runtime
+     * @return the schema
+     * @throws IOException if the schema could not be read
+     */
+    protected String loadSchema() throws IOException {
+        LOG.log(Level.INFO, "Fetching schema from {0}", uri);
+        return getSchemaContent();
+    }
+
+    protected String getSchemaFileName() {
+        return FILENAME;
+    }
+
     @RunAsClient
     @Test(priority = 2, dataProvider = "schemaSnippets", dataProviderClass = SchemaTestDataProvider.class)
     public void testPartsOfSchema(TestData input) {
@@ -120,18 +133,18 @@ public class SchemaDynamicValidityTest extends Arquillian {
     
     private void saveSchemaFile(){
         try{
-            Path downloadedSchema = Paths.get("target" + FS  + FILENAME);
+            Path downloadedSchema = Paths.get("target" + FS  + getSchemaFileName());
             Path createFile = Files.createFile(downloadedSchema);
             try(BufferedWriter writer = Files.newBufferedWriter(createFile, Charset.forName("UTF-8"))){
                 writer.write(this.schema);
             }
             LOG.log(Level.INFO, "Schema written to {0}", createFile.toUri());
         } catch (IOException ex) {
-            LOG.log(Level.SEVERE, "Could not save schema file to target" + FS + FILENAME + " - {0}", ex.getMessage());
+            LOG.log(Level.SEVERE, "Could not save schema file to target" + FS + getSchemaFileName() + " - {0}", ex.getMessage());
         }
     }
     
-    private String getSchemaContent() throws MalformedURLException, ProtocolException, IOException {
+    protected String getSchemaContent() throws MalformedURLException, ProtocolException, IOException {
         URL url = new URL(this.uri + PATH);
         HttpURLConnection connection = null;
         try {
@@ -70,6 +70,42 @@ public class GraphQLTestDataProvider {
         return getTestData(DataFrom.implementation);
     }
 
+    @DataProvider(name="trustedDocuments")
+    public static Object[][] getTrustedDocumentTestData(){
+        return toObjectArray(getTrustedDocumentTests());
+    }
+
+    /**
+     * The specification tests that can also run as a trusted document: queries with one input and one output without
+     * errors, that do not need any preparation, cleanup, HTTP headers or other request options
+     * @return the tests, in order of priority
+     */
+    public static List<TestData> getTrustedDocumentTests(){
+        List<TestData> trusted = new ArrayList<>();
+        for(Object[] row : getSpecificationTestData()){
+            TestData testData = (TestData)row[0];
+            if(testData!=null && isTrustedDocument(testData)){
+                trusted.add(testData);
+            }
+        }
+        return trusted;
+    }
+
+    private static boolean isTrustedDocument(TestData testData){
+        return testData.getInput().size() == 1
+                && testData.getOutput().size() == 1
+                && !testData.isMutation()
+                && testData.getPrepare() == null
+                && testData.getCleanup() == null
+                && (testData.getHttpHeaders() == null || testData.getHttpHeaders().isEmpty())
+                && !testData.isIncremental()
+                && !testData.isPersistedQuery()
+                && !testData.isBatch()
+                && testData.getTracing() == null
+                && testData.getExpectedHttpStatusCode() == 200
+                && !testData.getOutput().iterator().next().contains("\"errors\"");
+    }
+
     private static Object[][] getTestData(DataFrom dataFrom){
         try {
             DirectoryStream<Path> directoryStream = null;
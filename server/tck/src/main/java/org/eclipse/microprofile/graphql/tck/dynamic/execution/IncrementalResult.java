@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.dynamic.execution;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonPointer;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import org.testng.Assert;
+
+/**
+ * Reads an incremental delivery (multipart/mixed) response, asserts that the parts arrive in a valid order,
+ * and merges them into the single response a client would end up with.
+ */
+public class IncrementalResult {
+    private static final String MEDIATYPE_MULTIPART = "multipart/mixed";
+    private static final String BOUNDARY = "boundary=";
+    private static final String DATA = "data";
+    private static final String ERRORS = "errors";
+    private static final String EXTENSIONS = "extensions";
+    private static final String HAS_NEXT = "hasNext";
+    private static final String INCREMENTAL = "incremental";
+    private static final String ITEMS = "items";
+    private static final String PATH = "path";
+
+    private IncrementalResult(){
+    }
+
+    public static boolean isIncremental(String contentType){
+        return contentType!=null && contentType.toLowerCase().startsWith(MEDIATYPE_MULTIPART);
+    }
+
+    /**
+     * Merge all parts of a multipart/mixed response body into one GraphQL response
+     * @param contentType the Content-Type header of the response, containing the boundary
+     * @param body the raw response body
+     * @return the merged response, containing only data and errors (and extensions if sent)
+     */
+    public static String merge(String contentType, String body){
+        List<JsonObject> parts = getParts(getBoundary(contentType), body);
+        Assert.assertFalse(parts.isEmpty(), "Incremental response did not contain any parts");
+
+        JsonObject initial = parts.get(0);
+        Assert.assertTrue(initial.containsKey(DATA) || initial.containsKey(ERRORS),
+                "First part of an incremental response must contain data or errors " + initial);
+        Assert.assertTrue(initial.containsKey(HAS_NEXT), "First part of an incremental response must contain hasNext " + initial);
+
+        JsonValue data = initial.getOrDefault(DATA, JsonValue.NULL);
+        JsonArrayBuilder errors = Json.createArrayBuilder();
+        boolean hasErrors = addErrors(errors, initial);
+
+        for(int i = 1; i < parts.size(); i++){
+            JsonObject previous = parts.get(i - 1);
+            JsonObject subsequent = parts.get(i);
+            Assert.assertTrue(previous.getBoolean(HAS_NEXT),
+                    "Part " + i + " of an incremental response was sent after a part with hasNext false " + subsequent);
+            Assert.assertTrue(subsequent.containsKey(HAS_NEXT), "Part " + i + " of an incremental response must contain hasNext " + subsequent);
+            Assert.assertFalse(subsequent.containsKey(DATA), "Only the first part of an incremental response may contain data " + subsequent);
+            hasErrors = addErrors(errors, subsequent) || hasErrors;
+
+            JsonArray incremental = subsequent.getJsonArray(INCREMENTAL);
+            if(incremental!=null){
+                for(JsonObject payload : incremental.getValuesAs(JsonObject.class)){
+                    Assert.assertTrue(data instanceof JsonStructure, "Received an incremental payload without initial data " + payload);
+                    data = apply((JsonStructure)data, payload);
+                    hasErrors = addErrors(errors, payload) || hasErrors;
+                }
+            }
+        }
+        Assert.assertFalse(parts.get(parts.size() - 1).getBoolean(HAS_NEXT),
+                "Last part of an incremental response must have hasNext false");
+
+        JsonObjectBuilder merged = Json.createObjectBuilder();
+        merged.add(DATA, data);
+        if(hasErrors){
+            merged.add(ERRORS, errors);
+        }
+        if(initial.containsKey(EXTENSIONS)){
+            merged.add(EXTENSIONS, initial.get(EXTENSIONS));
+        }
+        return merged.build().toString();
+    }
+
+    private static JsonStructure apply(JsonStructure data, JsonObject payload){
+        JsonArray path = payload.getJsonArray(PATH);
+        Assert.assertNotNull(path, "Incremental payload must contain a path " + payload);
+
+        if(payload.containsKey(ITEMS)){
+            // @stream: the last path element is the index of the first item, and items must arrive in order
+            Assert.assertFalse(path.isEmpty(), "Streamed items must have a path to the list " + payload);
+            int index = path.getInt(path.size() - 1);
+            JsonPointer listPointer = Json.createPointer(toPointer(path.subList(0, path.size() - 1)));
+            JsonArray list = listPointer.getValue(data).asJsonArray();
+            Assert.assertEquals(index, list.size(), "Streamed items arrived out of order at " + path);
+
+            JsonArrayBuilder appended = Json.createArrayBuilder(list);
+            payload.getJsonArray(ITEMS).forEach(appended::add);
+            return listPointer.replace(data, appended.build());
+        } else if(payload.containsKey(DATA)){
+            // @defer: the path points to the object the deferred fragment was spread on
+            JsonPointer pointer = Json.createPointer(toPointer(path));
+            Assert.assertTrue(pointer.containsValue(data), "Deferred payload for a path that was not sent yet " + path);
+            JsonValue target = pointer.getValue(data);
+            JsonValue fragment = payload.get(DATA);
+            if(fragment.getValueType().equals(JsonValue.ValueType.NULL)){
+                return data;
+            }
+            JsonValue merged = deepMerge(target, fragment);
+            if(path.isEmpty()){
+                return (JsonStructure)merged;
+            }
+            return pointer.replace(data, merged);
+        }
+        Assert.fail("Incremental payload must contain data or items " + payload);
+        return data;
+    }
+
+    private static JsonValue deepMerge(JsonValue target, JsonValue source){
+        if(target.getValueType().equals(JsonValue.ValueType.OBJECT) && source.getValueType().equals(JsonValue.ValueType.OBJECT)){
+            JsonObject targetObject = target.asJsonObject();
+            JsonObjectBuilder builder = Json.createObjectBuilder(targetObject);
+            for(Map.Entry<String, JsonValue> entry : source.asJsonObject().entrySet()){
+                JsonValue existing = targetObject.get(entry.getKey());
+                builder.add(entry.getKey(), existing==null ? entry.getValue() : deepMerge(existing, entry.getValue()));
+            }
+            return builder.build();
+        }
+        return source;
+    }
+
+    private static String toPointer(List<JsonValue> path){
+        StringBuilder sb = new StringBuilder();
+        for(JsonValue element : path){
+            sb.append('/');
+            if(element instanceof JsonNumber){
+                sb.append(((JsonNumber)element).intValue());
+            }else{
+                sb.append(((JsonString)element).getString().replace("~", "~0").replace("/", "~1"));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean addErrors(JsonArrayBuilder errors, JsonObject part){
+        JsonArray partErrors = part.getJsonArray(ERRORS);
+        if(partErrors!=null && !partErrors.isEmpty()){
+            partErrors.forEach(errors::add);
+            return true;
+        }
+        return false;
+    }
+
+    private static String getBoundary(String contentType){
+        for(String parameter : contentType.split(";")){
+            String p = parameter.trim();
+            if(p.toLowerCase().startsWith(BOUNDARY)){
+                String boundary = p.substring(BOUNDARY.length());
+                if(boundary.startsWith("\"") && boundary.endsWith("\"") && boundary.length() > 1){
+                    boundary = boundary.substring(1, boundary.length() - 1);
+                }
+                return boundary;
+            }
+        }
+        Assert.fail("No boundary in Content-Type [" + contentType + "]");
+        return null;
+    }
+
+    private static List<JsonObject> getParts(String boundary, String body){
+        String delimiter = "--" + boundary;
+        String closeDelimiter = delimiter + "--";
+        List<JsonObject> parts = new ArrayList<>();
+        StringBuilder current = null;
+        for(String line : body.split("\r?\n", -1)){
+            String trimmed = line.trim();
+            if(trimmed.equals(delimiter) || trimmed.equals(closeDelimiter)){
+                if(current!=null){
+                    parts.add(toJson(current.toString()));
+                }
+                current = trimmed.equals(delimiter) ? new StringBuilder() : null;
+            }else if(current!=null){
+                current.append(line).append('\n');
+            }
+        }
+        Assert.assertNull(current, "Incremental response was not terminated with [" + closeDelimiter + "]");
+        return parts;
+    }
+
+    private static JsonObject toJson(String part){
+        // Skip the part headers (if any), the body starts after the first empty line
+        String json = part.trim();
+        if(!json.startsWith("{")){
+            String[] headersAndBody = part.split("\r?\n\r?\n", 2);
+            json = headersAndBody.length == 2 ? headersAndBody[1] : headersAndBody[0];
+        }
+        try(JsonReader reader = Json.createReader(new StringReader(json.trim()))){
+            return reader.readObject();
+        }
+    }
+}
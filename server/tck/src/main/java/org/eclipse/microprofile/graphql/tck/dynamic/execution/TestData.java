@@ -17,10 +17,13 @@
  */
 package org.eclipse.microprofile.graphql.tck.dynamic.execution;
 
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.regex.Pattern;
 import javax.json.JsonObject;
 
 /**
@@ -28,6 +31,8 @@ import javax.json.JsonObject;
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class TestData {
+    private static final Pattern MUTATION = Pattern.compile("^\\s*mutation\\b", Pattern.MULTILINE);
+
     private String name;
     private Set<String> input;
     private Properties httpHeaders;
@@ -67,7 +72,8 @@ public class TestData {
     }
 
     public boolean isMutation(){
-        return input.contains("mutation") || input.contains("Mutation");
+        // The input is a set of documents, not of words, so look for a mutation operation in the documents
+        return input.stream().anyMatch(document -> MUTATION.matcher(document).find());
     }
     
     public String getName() {
@@ -153,6 +159,27 @@ public class TestData {
         return 999; // default
     }
 
+    public String getCacheControl() {
+        if(properties!=null && !properties.isEmpty() && properties.containsKey("cacheControl")){
+            return properties.getProperty("cacheControl");
+        }
+        return null; // default
+    }
+
+    public Boolean getTracing() {
+        if(properties!=null && !properties.isEmpty() && properties.containsKey("tracing")){
+            return Boolean.valueOf(properties.getProperty("tracing"));
+        }
+        return null; // default
+    }
+
+    public int getRepeat() {
+        if(properties!=null && !properties.isEmpty() && properties.containsKey("repeat")){
+            return Integer.valueOf(properties.getProperty("repeat"));
+        }
+        return 1; // default
+    }
+
     public int getExpectedHttpStatusCode() {
         if(properties!=null && !properties.isEmpty() && properties.containsKey("expectedHttpStatusCode")){
             return Integer.valueOf(properties.getProperty("expectedHttpStatusCode"));
@@ -164,6 +191,36 @@ public class TestData {
         return getBooleanProperty("strict");
     }
 
+    public boolean expectNoData(){
+        return getBooleanProperty("noData");
+    }
+
+    public boolean isIncremental(){
+        return Boolean.TRUE.equals(getIncremental());
+    }
+
+    public Boolean getIncremental() {
+        if(properties!=null && !properties.isEmpty() && properties.containsKey("incremental")){
+            return Boolean.valueOf(properties.getProperty("incremental"));
+        }
+        return null; // default
+    }
+
+    public boolean isBatch(){
+        return getBooleanProperty("batch");
+    }
+
+    public List<String> getBatchOperations() {
+        if(properties!=null && !properties.isEmpty() && properties.containsKey("batchOperations")){
+            return Arrays.asList(properties.getProperty("batchOperations").trim().split("\\s*,\\s*"));
+        }
+        return null; // default
+    }
+
+    public boolean isPersistedQuery(){
+        return getBooleanProperty("persistedQuery");
+    }
+
     public String getFailMessage() {
         if(properties!=null && !properties.isEmpty() && properties.containsKey("failMessage")){
             return properties.getProperty("failMessage");
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.dynamic.execution;
+
+import java.io.StringReader;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import org.testng.Assert;
+
+/**
+ * Asserts that the tracing extension of a response is well formed: it has the phases with offsets and durations in
+ * nanoseconds that fit in the total duration, and a resolver entry for every field in the data.
+ */
+public class TracingExtension {
+    private static final String DATA = "data";
+    private static final String EXTENSIONS = "extensions";
+    private static final String TRACING = "tracing";
+    private static final String DURATION = "duration";
+    private static final String START_OFFSET = "startOffset";
+    private static final String PATH = "path";
+
+    private TracingExtension(){
+    }
+
+    /**
+     * Assert that the response contains a well formed tracing extension, or, if not expected, none at all
+     * @param response the (merged) response
+     * @param expected if a tracing extension is expected
+     */
+    public static void assertTracing(String response, boolean expected){
+        JsonObject received = toJson(response);
+        JsonObject extensions = received.getJsonObject(EXTENSIONS);
+        JsonObject tracing = extensions == null ? null : extensions.getJsonObject(TRACING);
+        if(!expected){
+            Assert.assertNull(tracing, "Not expecting a tracing extension " + tracing);
+            return;
+        }
+        Assert.assertNotNull(tracing, "Expecting a tracing extension in " + response);
+        Assert.assertEquals(tracing.getInt("version", 0), 1, "Unexpected tracing version " + tracing);
+
+        Instant startTime = getInstant(tracing, "startTime");
+        Instant endTime = getInstant(tracing, "endTime");
+        Assert.assertFalse(endTime.isBefore(startTime), "The tracing endTime is before the startTime " + tracing);
+        long duration = getNanos(tracing, DURATION);
+
+        JsonObject parsing = tracing.getJsonObject("parsing");
+        JsonObject validation = tracing.getJsonObject("validation");
+        Assert.assertNotNull(parsing, "Expecting a parsing phase in the tracing extension " + tracing);
+        Assert.assertNotNull(validation, "Expecting a validation phase in the tracing extension " + tracing);
+        long parsingEnd = assertTiming(parsing, duration, "parsing");
+        long validationEnd = assertTiming(validation, duration, "validation");
+        Assert.assertTrue(getNanos(validation, START_OFFSET) >= parsingEnd, "Validation started before parsing ended " + tracing);
+
+        JsonObject execution = tracing.getJsonObject("execution");
+        Assert.assertNotNull(execution, "Expecting an execution phase in the tracing extension " + tracing);
+        JsonArray resolvers = execution.getJsonArray("resolvers");
+        Assert.assertNotNull(resolvers, "Expecting resolvers in the tracing extension " + tracing);
+
+        Set<JsonArray> paths = new HashSet<>();
+        for(JsonObject resolver : resolvers.getValuesAs(JsonObject.class)){
+            JsonArray path = resolver.getJsonArray(PATH);
+            Assert.assertNotNull(path, "Expecting a path for every resolver " + resolver);
+            Assert.assertFalse(path.isEmpty(), "Expecting a non empty path for every resolver " + resolver);
+            Assert.assertTrue(paths.add(path), "More than one resolver with path " + path);
+            for(String key : new String[]{"parentType", "fieldName", "returnType"}){
+                Assert.assertEquals(resolver.get(key).getValueType(), JsonValue.ValueType.STRING,
+                        "Expecting " + key + " for resolver " + path);
+            }
+            long start = getNanos(resolver, START_OFFSET);
+            Assert.assertTrue(start >= validationEnd, "Resolver " + path + " started before validation ended " + tracing);
+            assertTiming(resolver, duration, path.toString());
+        }
+
+        List<JsonValue> root = new ArrayList<>();
+        assertResolved(received.get(DATA), root, paths);
+    }
+
+    private static void assertResolved(JsonValue value, List<JsonValue> path, Set<JsonArray> paths){
+        if(value == null){
+            return;
+        }
+        if(value.getValueType().equals(JsonValue.ValueType.OBJECT)){
+            for(Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()){
+                List<JsonValue> fieldPath = new ArrayList<>(path);
+                fieldPath.add(Json.createValue(entry.getKey()));
+                JsonArray expected = Json.createArrayBuilder(fieldPath).build();
+                Assert.assertTrue(paths.contains(expected), "Expecting a resolver for path " + expected);
+                assertResolved(entry.getValue(), fieldPath, paths);
+            }
+        }else if(value.getValueType().equals(JsonValue.ValueType.ARRAY)){
+            JsonArray array = value.asJsonArray();
+            for(int i = 0; i < array.size(); i++){
+                List<JsonValue> itemPath = new ArrayList<>(path);
+                itemPath.add(Json.createValue(i));
+                assertResolved(array.get(i), itemPath, paths);
+            }
+        }
+    }
+
+    private static long assertTiming(JsonObject timing, long total, String name){
+        long startOffset = getNanos(timing, START_OFFSET);
+        long end = startOffset + getNanos(timing, DURATION);
+        Assert.assertTrue(end <= total, "The " + name + " timing ends after the total duration of " + total + " " + timing);
+        return end;
+    }
+
+    private static long getNanos(JsonObject timing, String key){
+        JsonValue value = timing.get(key);
+        Assert.assertNotNull(value, "Expecting " + key + " in " + timing);
+        Assert.assertEquals(value.getValueType(), JsonValue.ValueType.NUMBER, "Expecting " + key + " to be a number in " + timing);
+        long nanos = ((JsonNumber)value).longValueExact();
+        Assert.assertTrue(nanos >= 0, "Expecting " + key + " to be positive in " + timing);
+        return nanos;
+    }
+
+    private static Instant getInstant(JsonObject tracing, String key){
+        try {
+            return Instant.parse(tracing.getString(key, ""));
+        } catch (DateTimeParseException ex) {
+            Assert.fail("Expecting " + key + " to be an ISO-8601 instant in " + tracing);
+            return null;
+        }
+    }
+
+    private static JsonObject toJson(String response){
+        try(JsonReader reader = Json.createReader(new StringReader(response))){
+            return reader.readObject();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.errorhandling;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Base64;
+import java.util.Properties;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.ConfigKey;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Deploys the superhero application with the hideErrorMessage and showErrorMessage lists swapped, compared to the
+ * default TCK config, and with an unchecked exception on the showErrorMessage list and a checked exception on the
+ * hideErrorMessage list, which are handled the other way without the lists. The decision to show or hide the message
+ * of an exception class may be cached, but only for a deployment, so these exceptions must be handled as configured
+ * here even when the default deployment has already handled them the other way.
+ */
+public class ErrorMessageConfigTest extends Arquillian {
+    private static final String DEFAULT_ERROR_MESSAGE = "Jarvis is down.";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        Properties properties = new Properties();
+        properties.put(ConfigKey.DEFAULT_ERROR_MESSAGE, DEFAULT_ERROR_MESSAGE);
+        properties.put(ConfigKey.EXCEPTION_HIDE_ERROR_MESSAGE_LIST,
+                "org.eclipse.microprofile.graphql.tck.apps.superhero.api.WeaknessNotFoundException,"
+                + "org.eclipse.microprofile.graphql.tck.apps.superhero.db.UnknownHeroException");
+        properties.put(ConfigKey.EXCEPTION_SHOW_ERROR_MESSAGE_LIST, "java.io.IOException,java.lang.IllegalArgumentException");
+        return DeployableUnit.getDeployment("tck-error-config", properties);
+    }
+
+    @RunAsClient
+    @Test
+    public void testShowErrorMessageTransitive() throws IOException {
+        // CsvIOException extends IOException, which is only on the showErrorMessage list in this deployment
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(getErrorMessage(lookup("exportToCSVFile")), "No you can not do this.",
+                    "Expecting the message of an exception that extends a class on the showErrorMessage list");
+        }
+    }
+
+    @RunAsClient
+    @Test
+    public void testHideErrorMessageTransitive() throws IOException {
+        // FlawNotFoundException extends WeaknessNotFoundException, which is only on the hideErrorMessage list in this deployment
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(getErrorMessage(lookup("findFlaw")), DEFAULT_ERROR_MESSAGE,
+                    "Expecting the default message for an exception that extends a class on the hideErrorMessage list");
+        }
+    }
+
+    @RunAsClient
+    @Test
+    public void testHideErrorMessage() throws IOException {
+        Assert.assertEquals(getErrorMessage(lookup("weakness")), DEFAULT_ERROR_MESSAGE,
+                "Expecting the default message for an exception on the hideErrorMessage list");
+    }
+
+    @RunAsClient
+    @Test
+    public void testShowErrorMessageOfUncheckedException() throws IOException {
+        // Unchecked exceptions are hidden by default, the IllegalArgumentException of an invalid cursor is on the showErrorMessage list
+        String cursor = Base64.getEncoder().encodeToString("invalid".getBytes(UTF_8));
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(getErrorMessage("{ recruits(first: 1, after: \"" + cursor + "\") { edges { cursor } } }"),
+                    "Invalid cursor [" + cursor + "]",
+                    "Expecting the message of an unchecked exception on the showErrorMessage list");
+        }
+    }
+
+    @RunAsClient
+    @Test
+    public void testHideErrorMessageOfCheckedException() throws IOException {
+        // Checked exceptions are shown by default, UnknownHeroException is on the hideErrorMessage list
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(getErrorMessage("{ superHero(name: \"Unknown Hero\") { name } }"), DEFAULT_ERROR_MESSAGE,
+                    "Expecting the default message for a checked exception on the hideErrorMessage list");
+        }
+    }
+
+    private static String lookup(String query) {
+        return "{ " + query + "(name: \"Phillip\") { name } }";
+    }
+
+    private String getErrorMessage(String query) throws IOException {
+        JsonObject response = new GraphQLClient(uri).execute(query);
+        JsonArray errors = response.getJsonArray("errors");
+        Assert.assertNotNull(errors, "Expecting an error from " + query + " " + response);
+        Assert.assertEquals(errors.size(), 1, "Expecting one error from " + query + " " + errors);
+        return errors.getJsonObject(0).getString("message");
+    }
+}
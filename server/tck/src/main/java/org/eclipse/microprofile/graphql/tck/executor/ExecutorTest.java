@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.executor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Properties;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.ConfigKey;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that blocking resolvers never run on the thread that executes the request (which can be an I/O thread),
+ * when the executor is configured as 'pool'. The thread of the non-blocking nonBlockingThread query is the thread
+ * that executes the request, and the blocking blockingThread field of every hero must be resolved on another thread.
+ */
+public class ExecutorTest extends Arquillian {
+    private static final int REQUESTS = 10;
+
+    private static final String QUERY = "query threads {\n"
+            + "  nonBlockingThread\n"
+            + "  allHeroes {\n"
+            + "    name\n"
+            + "    blockingThread\n"
+            + "  }\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        Properties properties = new Properties();
+        properties.put(ConfigKey.EXECUTOR, "pool");
+        return DeployableUnit.getDeployment("tck-executor", properties);
+    }
+
+    @RunAsClient
+    @Test
+    public void testBlockingResolverNeverRunsOnRequestThread() throws IOException {
+        GraphQLClient client = new GraphQLClient(uri);
+        for (int i = 0; i < REQUESTS; i++) {
+            JsonObject response = client.execute(QUERY);
+            Assert.assertFalse(response.containsKey("errors"), "Unexpected errors: " + response);
+
+            JsonObject data = response.getJsonObject("data");
+            String requestThread = data.getString("nonBlockingThread");
+            JsonArray heroes = data.getJsonArray("allHeroes");
+            Assert.assertFalse(heroes.isEmpty(), "Expecting heroes");
+            for (JsonObject hero : heroes.getValuesAs(JsonObject.class)) {
+                Assert.assertNotEquals(hero.getString("blockingThread"), requestThread,
+                        "Blocking field of " + hero.getString("name") + " was resolved on the request thread");
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import javax.json.Json;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import org.eclipse.microprofile.graphql.ConfigKey;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Runs the superHero query a few times, and reads the invocation and error metrics of the superHero query and the
+ * currentLocation source field back from the vendor scope of the metrics endpoint. Also sends the same document a few
+ * times and reads the hit and miss counters of the document cache. Only the difference between before and after is
+ * checked, so other tests using the same server do not influence the result.
+ */
+public class MetricsTest extends Arquillian {
+    private static final String INVOCATIONS = "mp.graphql.invocations";
+    private static final String ERRORS = "mp.graphql.errors";
+    private static final String DOCUMENT_CACHE_HITS = "mp.graphql.documentCache.hits";
+    private static final String DOCUMENT_CACHE_MISSES = "mp.graphql.documentCache.misses";
+    private static final String METRICS_PATH = System.getProperty("mp.tck.metrics.path", "/metrics/vendor");
+
+    private static final int SUCCESSFUL = 3;
+    private static final int FAILED = 2;
+
+    private static final String QUERY = "query hero($name: String) {\n"
+            + "  superHero(name: $name) {\n"
+            + "    name\n"
+            + "    currentLocation\n"
+            + "  }\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        Properties properties = new Properties();
+        properties.put(ConfigKey.METRICS_ENABLED, "true");
+        return DeployableUnit.getDeployment("tck-metrics", properties);
+    }
+
+    @RunAsClient
+    @Test
+    public void testInvocationAndErrorMetrics() throws IOException {
+        JsonObject before = getMetrics();
+
+        GraphQLClient client = new GraphQLClient(uri);
+        for (int i = 0; i < SUCCESSFUL; i++) {
+            JsonObject response = client.execute(QUERY, Json.createObjectBuilder().add("name", "Iron Man").build());
+            Assert.assertFalse(response.containsKey("errors"), "Unexpected errors: " + response);
+        }
+        for (int i = 0; i < FAILED; i++) {
+            JsonObject response = client.execute(QUERY, Json.createObjectBuilder().add("name", "Nobody").build());
+            Assert.assertTrue(response.containsKey("errors"), "Expecting an error for an unknown hero: " + response);
+        }
+
+        JsonObject after = getMetrics();
+        Assert.assertEquals(getTimerCount(after, "Query", "superHero") - getTimerCount(before, "Query", "superHero"),
+                SUCCESSFUL + FAILED, "Wrong number of invocations of Query.superHero");
+        Assert.assertEquals(getCount(after, "Query", "superHero") - getCount(before, "Query", "superHero"),
+                FAILED, "Wrong number of errors of Query.superHero");
+        Assert.assertEquals(getTimerCount(after, "SuperHero", "currentLocation") - getTimerCount(before, "SuperHero", "currentLocation"),
+                SUCCESSFUL, "Wrong number of invocations of SuperHero.currentLocation");
+        Assert.assertEquals(getCount(after, "SuperHero", "currentLocation") - getCount(before, "SuperHero", "currentLocation"),
+                0, "Wrong number of errors of SuperHero.currentLocation");
+    }
+
+    @RunAsClient
+    @Test
+    public void testDocumentCacheCounters() throws IOException {
+        // A comment makes the document unique, so that it is not in the cache yet, even when the test is repeated
+        String document = "# " + UUID.randomUUID() + "\n" + QUERY;
+        JsonObject before = getMetrics();
+
+        GraphQLClient client = new GraphQLClient(uri);
+        for (int i = 0; i < SUCCESSFUL; i++) {
+            JsonObject response = client.execute(document, Json.createObjectBuilder().add("name", "Iron Man").build());
+            Assert.assertFalse(response.containsKey("errors"), "Unexpected errors: " + response);
+        }
+
+        JsonObject after = getMetrics();
+        Assert.assertTrue(after.containsKey(DOCUMENT_CACHE_MISSES), "Expecting a " + DOCUMENT_CACHE_MISSES + " counter");
+        Assert.assertTrue(after.containsKey(DOCUMENT_CACHE_HITS), "Expecting a " + DOCUMENT_CACHE_HITS + " counter");
+        Assert.assertEquals(getCount(after, DOCUMENT_CACHE_MISSES) - getCount(before, DOCUMENT_CACHE_MISSES), 1,
+                "Expecting one document cache miss, for the first time the document is sent");
+        Assert.assertEquals(getCount(after, DOCUMENT_CACHE_HITS) - getCount(before, DOCUMENT_CACHE_HITS), SUCCESSFUL - 1,
+                "Expecting a document cache hit for every time the document is sent again");
+    }
+
+    private JsonObject getMetrics() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) uri.resolve(METRICS_PATH).toURL().openConnection();
+        connection.setRequestProperty("Accept", GraphQLClient.MEDIATYPE_JSON);
+        try {
+            Assert.assertEquals(connection.getResponseCode(), 200, "Could not read the metrics: " + connection.getResponseMessage());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8))) {
+                StringBuilder response = new StringBuilder();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    response.append(line);
+                }
+                return GraphQLClient.toJsonObject(response.toString());
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * A timer is a single object with all the timers of that name, and the tags in the keys of its values, as in
+     * 'mp.graphql.invocations': {'count;field=superHero;type=Query': 4, 'p99;field=superHero;type=Query': 1.2E7}
+     */
+    private static long getTimerCount(JsonObject metrics, String type, String field) {
+        JsonValue timers = metrics.get(INVOCATIONS);
+        if (timers == null) {
+            return 0;
+        }
+        Assert.assertEquals(timers.getValueType(), JsonValue.ValueType.OBJECT, "Expecting " + INVOCATIONS + " to be a timer");
+        JsonValue count = find(timers.asJsonObject(), "count", type, field);
+        if (count == null) {
+            return 0;
+        }
+        Assert.assertNotNull(find(timers.asJsonObject(), "p99", type, field),
+                "Expecting " + INVOCATIONS + " of " + type + "." + field + " to have a latency histogram");
+        return ((JsonNumber) count).longValue();
+    }
+
+    private static long getCount(JsonObject metrics, String name) {
+        JsonValue counter = metrics.get(name);
+        if (counter == null) {
+            return 0;
+        }
+        Assert.assertEquals(counter.getValueType(), JsonValue.ValueType.NUMBER, "Expecting " + name + " to be a counter");
+        return ((JsonNumber) counter).longValue();
+    }
+
+    /**
+     * A counter is a number, with the tags in its key, as in 'mp.graphql.errors;field=superHero;type=Query': 1
+     */
+    private static long getCount(JsonObject metrics, String type, String field) {
+        JsonValue counter = find(metrics, ERRORS, type, field);
+        if (counter == null) {
+            return 0;
+        }
+        Assert.assertEquals(counter.getValueType(), JsonValue.ValueType.NUMBER, "Expecting " + ERRORS + " to be a counter");
+        return ((JsonNumber) counter).longValue();
+    }
+
+    /**
+     * The JSON format has the tags in the key, as in 'name;tag1=value1;tag2=value2', in no defined order
+     */
+    private static JsonValue find(JsonObject metrics, String name, String type, String field) {
+        Set<String> expected = new HashSet<>(Arrays.asList(name, "type=" + type, "field=" + field));
+        for (Map.Entry<String, JsonValue> entry : metrics.entrySet()) {
+            if (new HashSet<>(Arrays.asList(entry.getKey().split(";"))).equals(expected)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.pagination;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import org.eclipse.microprofile.graphql.tck.apps.superhero.db.RecruitDatabase;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Pages through all the recruits, forward with first and after, and backward with last and before, and checks that
+ * every recruit is returned exactly once, in order, and that the pageInfo is consistent with the edges.
+ */
+public class PaginationTest extends Arquillian {
+    private static final int PAGE_SIZE = 37;
+
+    private static final String FORWARD = "query forward($first: Int, $after: String) {\n"
+            + "  recruits(first: $first, after: $after) {\n"
+            + "    edges {\n"
+            + "      cursor\n"
+            + "      node {\n"
+            + "        name\n"
+            + "      }\n"
+            + "    }\n"
+            + "    pageInfo {\n"
+            + "      hasPreviousPage\n"
+            + "      hasNextPage\n"
+            + "      startCursor\n"
+            + "      endCursor\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+
+    private static final String BACKWARD = "query backward($last: Int, $before: String) {\n"
+            + "  recruits(last: $last, before: $before) {\n"
+            + "    edges {\n"
+            + "      cursor\n"
+            + "      node {\n"
+            + "        name\n"
+            + "      }\n"
+            + "    }\n"
+            + "    pageInfo {\n"
+            + "      hasPreviousPage\n"
+            + "      hasNextPage\n"
+            + "      startCursor\n"
+            + "      endCursor\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        return DeployableUnit.getDeployment("tck-pagination");
+    }
+
+    @RunAsClient
+    @Test
+    public void testPageForward() throws IOException {
+        GraphQLClient client = new GraphQLClient(uri);
+        Set<String> names = new LinkedHashSet<>();
+        String after = null;
+        boolean hasNextPage = true;
+        while (hasNextPage) {
+            JsonObjectBuilder variables = Json.createObjectBuilder().add("first", PAGE_SIZE);
+            if (after != null) {
+                variables.add("after", after);
+            }
+            JsonObject page = getPage(client.execute(FORWARD, variables.build()));
+            List<String> pageNames = collect(page, names);
+            JsonObject pageInfo = page.getJsonObject("pageInfo");
+
+            Assert.assertTrue(pageNames.size() <= PAGE_SIZE, "Page larger than " + PAGE_SIZE + ": " + pageNames);
+            Assert.assertEquals(pageInfo.getBoolean("hasPreviousPage"), after != null, "Wrong hasPreviousPage " + pageInfo);
+            hasNextPage = pageInfo.getBoolean("hasNextPage");
+            Assert.assertTrue(hasNextPage || names.size() == RecruitDatabase.SIZE,
+                    "No next page after " + names.size() + " of " + RecruitDatabase.SIZE + " recruits");
+            Assert.assertTrue(!hasNextPage || pageNames.size() == PAGE_SIZE, "Short page before the last page: " + pageNames);
+            after = pageInfo.getString("endCursor");
+        }
+        assertAllRecruits(new ArrayList<>(names));
+    }
+
+    @RunAsClient
+    @Test
+    public void testPageBackward() throws IOException {
+        GraphQLClient client = new GraphQLClient(uri);
+        List<List<String>> pages = new ArrayList<>();
+        Set<String> names = new LinkedHashSet<>();
+        String before = null;
+        boolean hasPreviousPage = true;
+        while (hasPreviousPage) {
+            JsonObjectBuilder variables = Json.createObjectBuilder().add("last", PAGE_SIZE);
+            if (before != null) {
+                variables.add("before", before);
+            }
+            JsonObject page = getPage(client.execute(BACKWARD, variables.build()));
+            pages.add(0, collect(page, names));
+            JsonObject pageInfo = page.getJsonObject("pageInfo");
+
+            Assert.assertEquals(pageInfo.getBoolean("hasNextPage"), before != null, "Wrong hasNextPage " + pageInfo);
+            hasPreviousPage = pageInfo.getBoolean("hasPreviousPage");
+            Assert.assertTrue(hasPreviousPage || names.size() == RecruitDatabase.SIZE,
+                    "No previous page after " + names.size() + " of " + RecruitDatabase.SIZE + " recruits");
+            before = pageInfo.getString("startCursor");
+        }
+        List<String> ordered = new ArrayList<>();
+        pages.forEach(ordered::addAll);
+        assertAllRecruits(ordered);
+    }
+
+    private static JsonObject getPage(JsonObject response) {
+        Assert.assertFalse(response.containsKey("errors"), "Unexpected errors: " + response);
+        return response.getJsonObject("data").getJsonObject("recruits");
+    }
+
+    private static List<String> collect(JsonObject page, Set<String> names) {
+        List<JsonObject> edges = page.getJsonArray("edges").getValuesAs(JsonObject.class);
+        Assert.assertFalse(edges.isEmpty(), "Expecting at least one edge " + page);
+        JsonObject pageInfo = page.getJsonObject("pageInfo");
+        Assert.assertEquals(pageInfo.getString("startCursor"), edges.get(0).getString("cursor"), "Wrong startCursor");
+        Assert.assertEquals(pageInfo.getString("endCursor"), edges.get(edges.size() - 1).getString("cursor"), "Wrong endCursor");
+
+        List<String> pageNames = new ArrayList<>();
+        for (JsonObject edge : edges) {
+            String name = edge.getJsonObject("node").getString("name");
+            Assert.assertTrue(names.add(name), "Recruit " + name + " was returned more than once");
+            pageNames.add(name);
+        }
+        return pageNames;
+    }
+
+    private static void assertAllRecruits(List<String> names) {
+        Assert.assertEquals(names.size(), RecruitDatabase.SIZE, "Not all recruits were returned");
+        for (int i = 0; i < names.size(); i++) {
+            Assert.assertEquals(names.get(i), RecruitDatabase.getName(i + 1), "Recruit out of order");
+        }
+    }
+}
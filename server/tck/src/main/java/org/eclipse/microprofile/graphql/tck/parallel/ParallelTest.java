@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.parallel;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Properties;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.ConfigKey;
+import org.eclipse.microprofile.graphql.tck.apps.parallel.api.ParallelApi;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that independent query root fields run concurrently, up to mp.graphql.parallelism.maxConcurrentFields,
+ * and that mutation root fields run one after the other, in the order of the request. Also checks that a parallel
+ * {@literal @}Source field runs concurrently for the items of a list, up to mp.graphql.parallelism.maxConcurrentSources,
+ * and that its results are in the order of the list.
+ */
+public class ParallelTest extends Arquillian {
+    private static final int MAX_CONCURRENT_FIELDS = 3;
+    private static final int MAX_CONCURRENT_SOURCES = 4;
+    private static final int MILLIS = 200;
+    private static final int ITEMS = 12;
+    // Three fields of 200ms take 600ms when they run one after the other, allow for a slow thread pool
+    private static final long MAX_PARALLEL_MILLIS = 450;
+
+    private static final String FIELDS = "{ startedAt endedAt running }";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        Properties properties = new Properties();
+        properties.put(ConfigKey.PARALLELISM_MAX_CONCURRENT_FIELDS, String.valueOf(MAX_CONCURRENT_FIELDS));
+        properties.put(ConfigKey.PARALLELISM_MAX_CONCURRENT_SOURCES, String.valueOf(MAX_CONCURRENT_SOURCES));
+        return DeployableUnit.getDeployment("tck-parallel", properties)
+                .as(WebArchive.class)
+                .addPackage(ParallelApi.class.getPackage());
+    }
+
+    @RunAsClient
+    @Test
+    public void testQueryFieldsRunConcurrently() throws IOException {
+        JsonObject data = execute("query { "
+                + "first: sleep(millis: " + MILLIS + ") " + FIELDS
+                + " second: sleep(millis: " + MILLIS + ") " + FIELDS
+                + " third: sleep(millis: " + MILLIS + ") " + FIELDS
+                + " }");
+
+        long startedAt = Math.min(get(data, "first", "startedAt"),
+                Math.min(get(data, "second", "startedAt"), get(data, "third", "startedAt")));
+        long endedAt = Math.max(get(data, "first", "endedAt"),
+                Math.max(get(data, "second", "endedAt"), get(data, "third", "endedAt")));
+        Assert.assertTrue(endedAt - startedAt < MAX_PARALLEL_MILLIS,
+                "Expecting three fields of " + MILLIS + "ms to run concurrently, but they took " + (endedAt - startedAt) + "ms");
+    }
+
+    @RunAsClient
+    @Test
+    public void testConcurrentFieldsAreLimited() throws IOException {
+        int fields = MAX_CONCURRENT_FIELDS + 2;
+        StringBuilder query = new StringBuilder("query {");
+        for (int i = 0; i < fields; i++) {
+            query.append(" s").append(i).append(": sleep(millis: ").append(MILLIS).append(") ").append(FIELDS);
+        }
+        JsonObject data = execute(query.append(" }").toString());
+
+        for (int i = 0; i < fields; i++) {
+            long running = get(data, "s" + i, "running");
+            Assert.assertTrue(running <= MAX_CONCURRENT_FIELDS,
+                    "Expecting at most " + MAX_CONCURRENT_FIELDS + " concurrent fields, but s" + i + " started with " + running + " running");
+        }
+    }
+
+    @RunAsClient
+    @Test
+    public void testMutationFieldsRunSerially() throws IOException {
+        JsonObject data = execute("mutation { "
+                + "first: sleepInMutation(millis: " + MILLIS + ") " + FIELDS
+                + " second: sleepInMutation(millis: " + MILLIS + ") " + FIELDS
+                + " third: sleepInMutation(millis: " + MILLIS + ") " + FIELDS
+                + " }");
+
+        Assert.assertTrue(get(data, "second", "startedAt") >= get(data, "first", "endedAt"),
+                "Expecting the second mutation field to start after the first one ended " + data);
+        Assert.assertTrue(get(data, "third", "startedAt") >= get(data, "second", "endedAt"),
+                "Expecting the third mutation field to start after the second one ended " + data);
+        for (String field : new String[]{"first", "second", "third"}) {
+            Assert.assertEquals(get(data, field, "running"), 1, "Expecting no other field to run during mutation field " + field);
+        }
+    }
+
+    @RunAsClient
+    @Test
+    public void testParallelSourceFieldsRunConcurrently() throws IOException {
+        JsonArray items = execute("query { parallelItems(count: " + ITEMS + ") { index delayed(millis: " + MILLIS + ") "
+                + FIELDS + " } }").getJsonArray("parallelItems");
+        Assert.assertEquals(items.size(), ITEMS, "Wrong number of items " + items);
+
+        long startedAt = Long.MAX_VALUE;
+        long endedAt = Long.MIN_VALUE;
+        for (JsonObject item : items.getValuesAs(JsonObject.class)) {
+            startedAt = Math.min(startedAt, get(item, "delayed", "startedAt"));
+            endedAt = Math.max(endedAt, get(item, "delayed", "endedAt"));
+            long running = get(item, "delayed", "running");
+            Assert.assertTrue(running <= MAX_CONCURRENT_SOURCES, "Expecting at most " + MAX_CONCURRENT_SOURCES
+                    + " concurrent source fields, but item " + item.getInt("index") + " started with " + running + " running");
+        }
+        // Run one after the other the items take 2400ms, with 4 at the same time they take 600ms
+        long serialMillis = (long) ITEMS * MILLIS;
+        Assert.assertTrue(endedAt - startedAt < serialMillis / 2,
+                "Expecting the source fields of " + ITEMS + " items to overlap, but they took " + (endedAt - startedAt) + "ms");
+    }
+
+    @RunAsClient
+    @Test
+    public void testParallelSourceFieldsKeepOrder() throws IOException {
+        JsonArray items = execute("query { parallelItems(count: " + ITEMS + ") { index reversed(count: " + ITEMS + ") } }")
+                .getJsonArray("parallelItems");
+        Assert.assertEquals(items.size(), ITEMS, "Wrong number of items " + items);
+        for (int i = 0; i < ITEMS; i++) {
+            JsonObject item = items.getJsonObject(i);
+            Assert.assertEquals(item.getInt("index"), i, "Items out of order " + items);
+            Assert.assertEquals(item.getInt("reversed"), i, "Source field results out of order " + items);
+        }
+    }
+
+    private JsonObject execute(String graphQL) throws IOException {
+        JsonObject response = new GraphQLClient(uri).execute(graphQL);
+        Assert.assertFalse(response.containsKey("errors"), "Not expecting errors in the response " + response);
+        return response.getJsonObject("data");
+    }
+
+    private static long get(JsonObject data, String alias, String field) {
+        JsonNumber value = data.getJsonObject(alias).getJsonNumber(field);
+        Assert.assertNotNull(value, "Expecting " + alias + "." + field + " in " + data);
+        return value.longValue();
+    }
+}
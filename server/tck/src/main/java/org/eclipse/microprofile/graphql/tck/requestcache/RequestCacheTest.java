@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.requestcache;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that a source field of an entity with an id is only resolved once per id and request. The same team is reached
+ * through the teamAffiliations of all its members, but the memberCount field must only load every team once, which is
+ * counted by the teamLoads query.
+ */
+public class RequestCacheTest extends Arquillian {
+    private static final int REQUESTS = 3;
+
+    private static final String QUERY = "query memberCounts {\n"
+            + "  allHeroes {\n"
+            + "    name\n"
+            + "    teamAffiliations {\n"
+            + "      name\n"
+            + "      memberCount\n"
+            + "      members {\n"
+            + "        teamAffiliations {\n"
+            + "          name\n"
+            + "          size: memberCount\n"
+            + "        }\n"
+            + "      }\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+
+    private static final String TEAM_LOADS = "query teamLoads {\n"
+            + "  teamLoads\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        return DeployableUnit.getDeployment("tck-requestcache");
+    }
+
+    @RunAsClient
+    @Test
+    public void testOneLoadPerTeamAndRequest() throws IOException {
+        GraphQLClient client = new GraphQLClient(uri);
+        for (int i = 0; i < REQUESTS; i++) {
+            int before = getTeamLoads(client);
+            JsonObject response = client.execute(QUERY);
+            int after = getTeamLoads(client);
+            Assert.assertFalse(response.containsKey("errors"), "Unexpected errors: " + response);
+
+            Set<String> teams = new HashSet<>();
+            for (JsonObject hero : response.getJsonObject("data").getJsonArray("allHeroes").getValuesAs(JsonObject.class)) {
+                for (JsonObject team : hero.getJsonArray("teamAffiliations").getValuesAs(JsonObject.class)) {
+                    teams.add(team.getString("name"));
+                    for (JsonObject member : team.getJsonArray("members").getValuesAs(JsonObject.class)) {
+                        for (JsonObject memberTeam : member.getJsonArray("teamAffiliations").getValuesAs(JsonObject.class)) {
+                            teams.add(memberTeam.getString("name"));
+                        }
+                    }
+                }
+            }
+            Assert.assertFalse(teams.isEmpty(), "Expecting heroes with teams");
+            Assert.assertEquals(after - before, teams.size(),
+                    "Expecting every team to be loaded once in request " + i + ", teams: " + teams);
+        }
+    }
+
+    private static int getTeamLoads(GraphQLClient client) throws IOException {
+        return client.execute(TEAM_LOADS).getJsonObject("data").getInt("teamLoads");
+    }
+}
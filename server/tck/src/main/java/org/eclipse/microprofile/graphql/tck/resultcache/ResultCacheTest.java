@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.resultcache;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the @Cacheable allHeroesIn query is only invoked again after a mutation invalidated it. The number of
+ * invocations is counted by the cityLoads query. A new city is used, so other tests do not change the cached result.
+ */
+public class ResultCacheTest extends Arquillian {
+
+    private static final String HEROES_IN = "query heroesIn($city: String) {\n"
+            + "  allHeroesIn(city: $city) {\n"
+            + "    name\n"
+            + "  }\n"
+            + "}";
+
+    private static final String CREATE = "mutation create($name: String, $city: String) {\n"
+            + "  createNewHero(hero: {name: $name, realName: $name, superPowers: [\"Caching\"], primaryLocation: $city}) {\n"
+            + "    name\n"
+            + "  }\n"
+            + "}";
+
+    private static final String REMOVE = "mutation remove($name: String) {\n"
+            + "  removeHero(hero: $name) {\n"
+            + "    name\n"
+            + "  }\n"
+            + "}";
+
+    private static final String CITY_LOADS = "query cityLoads {\n"
+            + "  cityLoads\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        return DeployableUnit.getDeployment("tck-resultcache");
+    }
+
+    @RunAsClient
+    @Test
+    public void testInvalidatedByMutations() throws IOException {
+        GraphQLClient client = new GraphQLClient(uri);
+        String city = "Cache City " + UUID.randomUUID();
+        String name = "Cache Hero " + UUID.randomUUID();
+
+        int loads = getCityLoads(client);
+        assertHeroesIn(client, city, 0);
+        Assert.assertEquals(getCityLoads(client), loads + 1, "Expecting the first query to invoke allHeroesIn");
+        assertHeroesIn(client, city, 0);
+        Assert.assertEquals(getCityLoads(client), loads + 1, "Expecting the repeated query to be answered from the cache");
+
+        assertNoErrors(client.execute(CREATE, Json.createObjectBuilder().add("name", name).add("city", city).build()));
+        assertHeroesIn(client, city, 1);
+        Assert.assertEquals(getCityLoads(client), loads + 2, "Expecting createNewHero to invalidate the cached result");
+        assertHeroesIn(client, city, 1);
+        Assert.assertEquals(getCityLoads(client), loads + 2, "Expecting the repeated query to be answered from the cache");
+
+        assertNoErrors(client.execute(REMOVE, Json.createObjectBuilder().add("name", name).build()));
+        assertHeroesIn(client, city, 0);
+        Assert.assertEquals(getCityLoads(client), loads + 3, "Expecting removeHero to invalidate the cached result");
+    }
+
+    private static void assertHeroesIn(GraphQLClient client, String city, int expected) throws IOException {
+        JsonObject response = client.execute(HEROES_IN, Json.createObjectBuilder().add("city", city).build());
+        assertNoErrors(response);
+        JsonArray heroes = response.getJsonObject("data").getJsonArray("allHeroesIn");
+        Assert.assertEquals(heroes.size(), expected, "Unexpected heroes in " + city + ": " + heroes);
+    }
+
+    private static void assertNoErrors(JsonObject response) {
+        Assert.assertFalse(response.containsKey("errors"), "Unexpected errors: " + response);
+    }
+
+    private static int getCityLoads(GraphQLClient client) throws IOException {
+        return client.execute(CITY_LOADS).getJsonObject("data").getInt("cityLoads");
+    }
+}
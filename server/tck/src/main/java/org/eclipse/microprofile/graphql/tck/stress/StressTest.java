@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.stress;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
+import org.eclipse.microprofile.graphql.ConfigKey;
+import org.eclipse.microprofile.graphql.tck.apps.stress.api.StressApi;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Requests a response of about 100MB, from a list that creates its items while it is read, and reads it with a
+ * streaming parser, so that neither the client nor a streaming server needs to hold the complete response in memory.
+ * To check that the server streams the response, run it with a maximum heap that is smaller than the response
+ * (for example -Xmx64m). The number of items can be changed with the 'mp.tck.stress.count' system property.
+ */
+public class StressTest extends Arquillian {
+    private static final int COUNT = Integer.getInteger("mp.tck.stress.count", 800000);
+    private static final int READ_TIMEOUT = Integer.getInteger("mp.tck.stress.timeout", 300000);
+    private static final int FAIL_COUNT = 1000;
+
+    private static final String QUERY = "query stress($count: Int!) {\n"
+            + "  stressItems(count: $count) {\n"
+            + "    index\n"
+            + "    name\n"
+            + "    description\n"
+            + "  }\n"
+            + "}";
+
+    private static final String FAILING_QUERY = "query stressFailing($count: Int!, $failAt: Int!) {\n"
+            + "  stressItems(count: $count, failAt: $failAt) {\n"
+            + "    index\n"
+            + "    checksum\n"
+            + "  }\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        Properties properties = new Properties();
+        properties.put(ConfigKey.STREAMING_RESPONSE_ENABLED, "true");
+        return DeployableUnit.getDeployment("tck-stress", properties)
+                .as(WebArchive.class)
+                .addPackage(StressApi.class.getPackage());
+    }
+
+    @RunAsClient
+    @Test
+    public void testLargeResponse() throws IOException {
+        GraphQLClient client = new GraphQLClient(uri, READ_TIMEOUT);
+        HttpURLConnection connection = client.post(QUERY,
+                Json.createObjectBuilder().add("count", COUNT).build(), GraphQLClient.MEDIATYPE_JSON);
+        try {
+            Assert.assertEquals(connection.getResponseCode(), 200, connection.getResponseMessage());
+            try (InputStream in = connection.getInputStream(); JsonParser parser = Json.createParser(in)) {
+                Assert.assertEquals(countItems(parser), COUNT, "Wrong number of items in the response");
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @RunAsClient
+    @Test
+    public void testErrorAfterData() throws IOException {
+        int failAt = FAIL_COUNT - 1;
+        HttpURLConnection connection = new GraphQLClient(uri).post(FAILING_QUERY,
+                Json.createObjectBuilder().add("count", FAIL_COUNT).add("failAt", failAt).build(), GraphQLClient.MEDIATYPE_JSON);
+        String body;
+        try {
+            Assert.assertEquals(connection.getResponseCode(), 200, connection.getResponseMessage());
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(readAll(in), UTF_8);
+            }
+        } finally {
+            connection.disconnect();
+        }
+        JsonObject response = GraphQLClient.toJsonObject(body);
+
+        JsonArray items = response.getJsonObject("data").getJsonArray("stressItems");
+        Assert.assertEquals(items.size(), FAIL_COUNT, "Wrong number of items in the response");
+        Assert.assertTrue(items.getJsonObject(failAt).isNull("checksum"), "Expecting no checksum for the failing item");
+        Assert.assertFalse(items.getJsonObject(0).isNull("checksum"), "Expecting a checksum for the other items");
+
+        JsonArray errors = response.getJsonArray("errors");
+        Assert.assertNotNull(errors, "Expecting the error of the last item in the response " + response.keySet());
+        Assert.assertEquals(errors.size(), 1, "Expecting one error " + errors);
+        Assert.assertEquals(errors.getJsonObject(0).getJsonArray("path"),
+                Json.createArrayBuilder().add("stressItems").add(failAt).add("checksum").build(), "Wrong path of the error");
+
+        // The error is only known after the other items were written, so a streamed response has it after the data.
+        // A JsonObject does not keep the order of its keys, so the order is read from the document itself
+        List<String> keys;
+        try (JsonParser parser = Json.createParser(new StringReader(body))) {
+            keys = getRootKeys(parser);
+        }
+        Assert.assertTrue(keys.indexOf("errors") > keys.indexOf("data"), "Expecting the errors after the data " + keys);
+    }
+
+    /**
+     * The keys of the root object, in the order of the document
+     */
+    private static List<String> getRootKeys(JsonParser parser) {
+        List<String> keys = new ArrayList<>();
+        int depth = 0;
+        while (parser.hasNext()) {
+            switch (parser.next()) {
+                case KEY_NAME:
+                    if (depth == 1) {
+                        keys.add(parser.getString());
+                    }
+                    break;
+                case START_ARRAY:
+                case START_OBJECT:
+                    depth++;
+                    break;
+                case END_ARRAY:
+                case END_OBJECT:
+                    depth--;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return keys;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Count the items in data/stressItems, checking that they are in order, without keeping them in memory
+     */
+    private static int countItems(JsonParser parser) {
+        int depth = 0;
+        int count = 0;
+        boolean inItems = false;
+        String key = null;
+        while (parser.hasNext()) {
+            JsonParser.Event event = parser.next();
+            switch (event) {
+                case KEY_NAME:
+                    key = parser.getString();
+                    if (depth == 1) {
+                        Assert.assertNotEquals(key, "errors", "Not expecting errors in the response");
+                    }
+                    break;
+                case START_ARRAY:
+                    inItems = inItems || (depth == 2 && "stressItems".equals(key));
+                    depth++;
+                    break;
+                case START_OBJECT:
+                    depth++;
+                    break;
+                case END_ARRAY:
+                case END_OBJECT:
+                    depth--;
+                    if (depth == 2) {
+                        inItems = false;
+                    }
+                    break;
+                case VALUE_NUMBER:
+                    if (inItems && depth == 4 && "index".equals(key)) {
+                        Assert.assertEquals(parser.getInt(), count, "Items out of order");
+                        count++;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.subscription;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Collections;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Tests subscriptions over Server-Sent Events, using the heroLocations subscription that publishes the location of a
+ * hero every time the logLocation mutation is executed. The demand of the implementation may be at most
+ * 'mp.tck.subscription.maxDemand' locations (128 by default), and a subscriber that does not read may get at most that
+ * many locations more than fit in 'mp.tck.subscription.transportBuffer' bytes (16MB by default).
+ */
+public class SubscriptionTest extends Arquillian {
+    private static final String MEDIATYPE_EVENT_STREAM = "text/event-stream";
+    private static final String HERO = "Iron Man";
+    private static final int LOCATIONS = 5;
+
+    private static final String SUBSCRIPTION = "subscription heroLocations {\n"
+            + "  heroLocations(name: \"" + HERO + "\", limit: " + LOCATIONS + ") {\n"
+            + "    heroName\n"
+            + "    coordinates\n"
+            + "  }\n"
+            + "}";
+
+    // A subscriber that stops reading, with locations that are large enough to fill the transport buffers
+    private static final String SLOW_HERO = "Spider Man";
+    private static final int SLOW_LOCATIONS = 640;
+    private static final int COORDINATES = 8000;
+    private static final String COORDINATE = "12345.6789";
+    private static final int MAX_DEMAND = Integer.getInteger("mp.tck.subscription.maxDemand", 128);
+    private static final int TRANSPORT_BUFFER = Integer.getInteger("mp.tck.subscription.transportBuffer", 16 * 1024 * 1024);
+
+    private static final String SLOW_SUBSCRIPTION = "subscription slowHeroLocations {\n"
+            + "  heroLocations(name: \"" + SLOW_HERO + "\", limit: " + (SLOW_LOCATIONS + 1) + ") {\n"
+            + "    coordinates\n"
+            + "  }\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        return DeployableUnit.getDeployment("tck-subscription");
+    }
+
+    @RunAsClient
+    @Test(priority = 1)
+    public void testLocationsArePublishedInOrder() throws IOException {
+        HttpURLConnection subscription = new GraphQLClient(uri).post(SUBSCRIPTION, null, MEDIATYPE_EVENT_STREAM);
+        Assert.assertEquals(subscription.getResponseCode(), 200, "Subscription was not accepted");
+        Assert.assertTrue(String.valueOf(subscription.getContentType()).startsWith(MEDIATYPE_EVENT_STREAM),
+                "Expecting a " + MEDIATYPE_EVENT_STREAM + " response, but got " + subscription.getContentType());
+
+        try (BufferedReader events = new BufferedReader(new InputStreamReader(subscription.getInputStream(), UTF_8))) {
+            // The last known location is published when subscribing
+            JsonObject initial = getHeroLocation(nextEvent(events));
+            Assert.assertEquals(initial.getString("heroName"), HERO, "Unexpected hero in the initial location");
+
+            for (int i = 1; i < LOCATIONS; i++) {
+                logLocation(i);
+                JsonObject location = getHeroLocation(nextEvent(events));
+                JsonArray coordinates = location.getJsonArray("coordinates");
+                Assert.assertNotNull(coordinates, "Expecting coordinates in location " + i);
+                Assert.assertEquals(coordinates.getJsonNumber(0).intValue(), i, "Locations are not published in order");
+                Assert.assertEquals(coordinates.getJsonNumber(1).intValue(), i, "Locations are not published in order");
+            }
+
+            Event complete = nextEvent(events);
+            Assert.assertEquals(complete.name, "complete",
+                    "Expecting the subscription to complete after " + LOCATIONS + " locations");
+        } finally {
+            subscription.disconnect();
+        }
+    }
+
+    @RunAsClient
+    @Test(priority = 2)
+    public void testSlowSubscriberIsNotFlooded() throws IOException {
+        HttpURLConnection subscription = new GraphQLClient(uri).post(SLOW_SUBSCRIPTION, null, MEDIATYPE_EVENT_STREAM);
+        Assert.assertEquals(subscription.getResponseCode(), 200, "Subscription was not accepted");
+
+        try (BufferedReader events = new BufferedReader(new InputStreamReader(subscription.getInputStream(), UTF_8))) {
+            getHeroLocation(nextEvent(events));
+            long before = getEmittedLocations();
+
+            // The subscriber stops reading, so only the requested locations and what the transport buffers can be sent
+            String coordinates = String.join(", ", Collections.nCopies(COORDINATES, COORDINATE));
+            for (int i = 0; i < SLOW_LOCATIONS; i++) {
+                JsonObject response = new GraphQLClient(uri).execute("mutation logLocation {\n"
+                        + "  logLocation(name: \"" + SLOW_HERO + "\", coordinates: [" + coordinates + "]) {\n"
+                        + "    name\n"
+                        + "  }\n"
+                        + "}");
+                Assert.assertFalse(response.containsKey("errors"), "Could not log location " + i + ": " + response);
+            }
+
+            long emitted = getEmittedLocations() - before;
+            long bound = MAX_DEMAND + TRANSPORT_BUFFER / ((long) COORDINATES * (COORDINATE.length() + 1));
+            Assert.assertTrue(emitted <= bound, "Expecting at most " + bound + " of " + SLOW_LOCATIONS
+                    + " locations to be emitted to a subscriber that does not read, but " + emitted + " were emitted");
+        } finally {
+            subscription.disconnect();
+        }
+    }
+
+    @RunAsClient
+    @Test(priority = 3)
+    public void testDemandIsBounded() throws IOException {
+        JsonObject response = new GraphQLClient(uri).execute("query maxOutstandingLocationDemand {\n  maxOutstandingLocationDemand\n}");
+        BigInteger demand = response.getJsonObject("data").getJsonNumber("maxOutstandingLocationDemand").bigIntegerValue();
+        Assert.assertTrue(demand.signum() > 0, "Expecting the subscriber to have requested locations");
+        Assert.assertTrue(demand.compareTo(BigInteger.valueOf(MAX_DEMAND)) <= 0,
+                "Expecting at most " + MAX_DEMAND + " outstanding locations, but the subscriber requested " + demand + " locations");
+    }
+
+    private long getEmittedLocations() throws IOException {
+        JsonObject response = new GraphQLClient(uri).execute("query emittedLocations {\n"
+                + "  emittedLocations(name: \"" + SLOW_HERO + "\")\n"
+                + "}");
+        return response.getJsonObject("data").getJsonNumber("emittedLocations").longValue();
+    }
+
+    private void logLocation(int i) throws IOException {
+        JsonObject response = new GraphQLClient(uri).execute("mutation logLocation {\n"
+                + "  logLocation(name: \"" + HERO + "\", coordinates: [" + i + ", " + i + "]) {\n"
+                + "    name\n"
+                + "  }\n"
+                + "}");
+        Assert.assertFalse(response.containsKey("errors"), "Could not log location " + i + ": " + response);
+    }
+
+    private JsonObject getHeroLocation(Event event) {
+        Assert.assertEquals(event.name, "next", "Expecting a result, but got " + event.name + " [" + event.data + "]");
+        JsonObject result = GraphQLClient.toJsonObject(event.data);
+        Assert.assertFalse(result.containsKey("errors"), "Unexpected errors in subscription result: " + result);
+        return result.getJsonObject("data").getJsonObject("heroLocations");
+    }
+
+    private Event nextEvent(BufferedReader reader) throws IOException {
+        String name = null;
+        StringBuilder data = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (name != null || data != null) {
+                    return new Event(name, data);
+                }
+            } else if (line.startsWith("event:")) {
+                name = line.substring("event:".length()).trim();
+            } else if (line.startsWith("data:")) {
+                data = (data == null) ? new StringBuilder() : data.append('\n');
+                data.append(line.substring("data:".length()).trim());
+            }
+        }
+        if (name != null || data != null) {
+            return new Event(name, data);
+        }
+        Assert.fail("The event stream ended unexpectedly");
+        return null;
+    }
+
+    private static class Event {
+        private final String name;
+        private final String data;
+
+        Event(String name, StringBuilder data) {
+            this.name = (name == null) ? "message" : name;
+            this.data = (data == null) ? "" : data.toString();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.trusteddocuments;
+
+import javax.enterprise.inject.spi.DeploymentException;
+import javax.json.Json;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that a manifest with a document that is not valid for the schema is a deployment error, even though its id
+ * matches the document.
+ */
+public class TrustedDocumentsInvalidTest extends Arquillian {
+    private static final String DOCUMENT = "query heroNames { allHeroes { name unknownField } }";
+
+    @Deployment
+    @ShouldThrowException(DeploymentException.class)
+    public static Archive<?> getDeployment() throws Exception {
+        return TrustedDocumentsTest.getDeployment("tck-trusteddocuments-invalid", Json.createObjectBuilder()
+                .add(TrustedDocumentsTest.getDocumentId(DOCUMENT), DOCUMENT)
+                .build());
+    }
+
+    @Test
+    public void testDeploymentFails() {
+        // The deployment must fail, which is checked by Arquillian
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.trusteddocuments;
+
+import java.io.IOException;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import org.eclipse.microprofile.graphql.ConfigKey;
+import org.eclipse.microprofile.graphql.tck.apps.upload.api.Hex;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.eclipse.microprofile.graphql.tck.dynamic.execution.GraphQLTestDataProvider;
+import org.eclipse.microprofile.graphql.tck.dynamic.execution.TestData;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.json.JSONException;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Runs the queries of the specification tests as trusted documents: the manifest contains all of them, and every
+ * request only sends the document id and the variables. Sending a query, or an unknown document id, must be rejected.
+ */
+public class TrustedDocumentsTest extends Arquillian {
+    private static final String MANIFEST = "META-INF/microprofile-graphql/trusted-documents.json";
+    private static final String DOCUMENT_ID = "documentId";
+    private static final String VARIABLES = "variables";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        JsonObjectBuilder manifest = Json.createObjectBuilder();
+        for (TestData testData : GraphQLTestDataProvider.getTrustedDocumentTests()) {
+            String document = getDocument(testData);
+            manifest.add(getDocumentId(document), document);
+        }
+        return getDeployment("tck-trusteddocuments", manifest.build());
+    }
+
+    static Archive<?> getDeployment(String name, JsonObject manifest) throws Exception {
+        Properties properties = new Properties();
+        properties.put(ConfigKey.TRUSTED_DOCUMENTS_LOCATION, MANIFEST);
+        return DeployableUnit.getDeployment(name, properties)
+                .as(WebArchive.class)
+                .addAsResource(new StringAsset(manifest.toString()), MANIFEST);
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "trustedDocuments", dataProviderClass = GraphQLTestDataProvider.class)
+    public void testTrustedDocument(TestData testData) throws IOException {
+        JsonObjectBuilder body = Json.createObjectBuilder().add(DOCUMENT_ID, getDocumentId(getDocument(testData)));
+        if (testData.getVariables() != null && !testData.getVariables().isEmpty()) {
+            body.add(VARIABLES, testData.getVariables());
+        }
+        JsonObject response = new GraphQLClient(uri).execute(body.build());
+
+        // Only queries are trusted documents, so the application still has its initial data, as in the specification tests
+        try {
+            JSONAssert.assertEquals(testData.getFailMessage(), testData.getOutput().iterator().next(), response.toString(),
+                    testData.beStrict());
+        } catch (JSONException ex) {
+            Assert.fail("Could not compare the response of " + testData.getName() + ": " + ex.getMessage());
+        }
+    }
+
+    @RunAsClient
+    @Test
+    public void testQueryRejected() throws IOException {
+        // Even though this is the same document as a trusted document, a query must not be parsed
+        String document = getDocument(GraphQLTestDataProvider.getTrustedDocumentTests().get(0));
+        JsonObject response = new GraphQLClient(uri).execute(document);
+        assertRejected(response, "TRUSTED_DOCUMENT_REQUIRED");
+    }
+
+    @RunAsClient
+    @Test
+    public void testUnknownDocumentRejected() throws IOException {
+        JsonObject body = Json.createObjectBuilder().add(DOCUMENT_ID, getDocumentId("{ allHeroes { name } } # unknown")).build();
+        JsonObject response = new GraphQLClient(uri).execute(body);
+        assertRejected(response, "TRUSTED_DOCUMENT_NOT_FOUND");
+    }
+
+    private static void assertRejected(JsonObject response, String code) {
+        Assert.assertFalse(response.containsKey("data"), "Not expecting data when the request is rejected: " + response);
+        JsonArray errors = response.getJsonArray("errors");
+        Assert.assertNotNull(errors, "Expecting an error: " + response);
+        JsonObject extensions = errors.getJsonObject(0).getJsonObject("extensions");
+        Assert.assertNotNull(extensions, "Expecting error extensions: " + response);
+        Assert.assertEquals(extensions.getString("code", null), code, "Unexpected error code");
+    }
+
+    private static String getDocument(TestData testData) {
+        return testData.getInput().iterator().next();
+    }
+
+    static String getDocumentId(String document) {
+        try {
+            return "sha256:" + Hex.toHex(MessageDigest.getInstance("SHA-256").digest(document.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.graphql.tck.upload;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+import java.util.Random;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.eclipse.microprofile.graphql.ConfigKey;
+import org.eclipse.microprofile.graphql.tck.apps.upload.api.Hex;
+import org.eclipse.microprofile.graphql.tck.apps.upload.api.UploadApi;
+import org.eclipse.microprofile.graphql.tck.client.GraphQLClient;
+import org.eclipse.microprofile.graphql.tck.dynamic.DeployableUnit;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Sends files with the GraphQL multipart request format. The large file is generated while it is sent, so the client
+ * never holds it in memory. To check that the server spools uploads to disk, run it with a maximum heap that is
+ * smaller than the file (for example -Xmx64m). The size of the large file can be changed with the
+ * 'mp.tck.upload.size' system property.
+ */
+public class UploadTest extends Arquillian {
+    private static final long SIZE = Long.getLong("mp.tck.upload.size", 256L * 1024 * 1024);
+    private static final int READ_TIMEOUT = Integer.getInteger("mp.tck.upload.timeout", 300000);
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    private static final String UPLOAD = "mutation upload($file: Upload!) {\n"
+            + "  upload(file: $file) {\n"
+            + "    fileName\n"
+            + "    contentType\n"
+            + "    size\n"
+            + "    sha256\n"
+            + "  }\n"
+            + "}";
+
+    private static final String UPLOAD_ALL = "mutation uploadAll($files: [Upload]!) {\n"
+            + "  uploadAll(files: $files) {\n"
+            + "    fileName\n"
+            + "    contentType\n"
+            + "    size\n"
+            + "    sha256\n"
+            + "  }\n"
+            + "}";
+
+    @ArquillianResource
+    private URI uri;
+
+    @Deployment
+    public static Archive<?> getDeployment() throws Exception {
+        Properties properties = new Properties();
+        // Spool everything but the smallest parts, so that reading from disk is tested with the small files too
+        properties.put(ConfigKey.UPLOAD_SPOOL_THRESHOLD, "1024");
+        return DeployableUnit.getDeployment("tck-upload", properties)
+                .as(WebArchive.class)
+                .addPackage(UploadApi.class.getPackage());
+    }
+
+    @RunAsClient
+    @Test
+    public void testUploadScalar() throws IOException {
+        JsonObject response = new GraphQLClient(uri).execute("{ __type(name: \"Upload\") { kind } }");
+        Assert.assertEquals(response.getJsonObject("data").getJsonObject("__type").getString("kind"), "SCALAR",
+                "Expecting an Upload scalar in the schema");
+    }
+
+    @RunAsClient
+    @Test
+    public void testLargeUpload() throws IOException {
+        UploadFile file = new UploadFile("large.bin", OCTET_STREAM, SIZE, 1L);
+        JsonObject operations = Json.createObjectBuilder()
+                .add("query", UPLOAD)
+                .add("variables", Json.createObjectBuilder().addNull("file"))
+                .build();
+        JsonObject map = Json.createObjectBuilder()
+                .add("0", Json.createArrayBuilder().add("variables.file"))
+                .build();
+
+        JsonObject response = send(operations, map, file);
+
+        assertUploaded(response.getJsonObject("data").getJsonObject("upload"), file);
+    }
+
+    @RunAsClient
+    @Test
+    public void testMultipleUploads() throws IOException {
+        UploadFile first = new UploadFile("first.txt", "text/plain", 10, 2L);
+        UploadFile second = new UploadFile("second.bin", OCTET_STREAM, 100000, 3L);
+        JsonObject operations = Json.createObjectBuilder()
+                .add("query", UPLOAD_ALL)
+                .add("variables", Json.createObjectBuilder()
+                        .add("files", Json.createArrayBuilder().addNull().addNull()))
+                .build();
+        JsonObject map = Json.createObjectBuilder()
+                .add("0", Json.createArrayBuilder().add("variables.files.0"))
+                .add("1", Json.createArrayBuilder().add("variables.files.1"))
+                .build();
+
+        JsonObject response = send(operations, map, first, second);
+
+        JsonArray results = response.getJsonObject("data").getJsonArray("uploadAll");
+        Assert.assertEquals(results.size(), 2, "Expecting a result for every file " + results);
+        assertUploaded(results.getJsonObject(0), first);
+        assertUploaded(results.getJsonObject(1), second);
+    }
+
+    private static void assertUploaded(JsonObject result, UploadFile file) {
+        Assert.assertNotNull(result, "Expecting a result for " + file.name);
+        Assert.assertEquals(result.getString("fileName"), file.name, "Wrong file name");
+        Assert.assertEquals(result.getString("contentType"), file.contentType, "Wrong content type of " + file.name);
+        Assert.assertEquals(result.getJsonNumber("size").longValueExact(), file.size, "Wrong size of " + file.name);
+        Assert.assertEquals(result.getString("sha256"), file.sha256, "Wrong checksum of " + file.name);
+    }
+
+    private JsonObject send(JsonObject operations, JsonObject map, UploadFile... files) throws IOException {
+        JsonObject response = new GraphQLClient(uri, READ_TIMEOUT).executeMultipart(operations, map, files);
+        Assert.assertFalse(response.containsKey("errors"), "Not expecting errors in the response " + response);
+        return response;
+    }
+
+    /**
+     * A file of random bytes that is generated (from a seed) every time it is written, and never held in memory
+     */
+    private static class UploadFile implements GraphQLClient.FilePart {
+        private final String name;
+        private final String contentType;
+        private final long size;
+        private final long seed;
+        private final String sha256;
+
+        UploadFile(String name, String contentType, long size, long seed) throws IOException {
+            this.name = name;
+            this.contentType = contentType;
+            this.size = size;
+            this.seed = seed;
+            this.sha256 = checksum();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public void writeTo(OutputStream os) throws IOException {
+            Random random = new Random(seed);
+            byte[] buffer = new byte[CHUNK_SIZE];
+            long remaining = size;
+            while (remaining > 0) {
+                int length = (int) Math.min(buffer.length, remaining);
+                random.nextBytes(buffer);
+                os.write(buffer, 0, length);
+                remaining -= length;
+            }
+        }
+
+        private String checksum() throws IOException {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                writeTo(new OutputStream() {
+                    @Override
+                    public void write(int b) {
+                        digest.update((byte) b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) {
+                        digest.update(b, off, len);
+                    }
+                });
+                return Hex.toHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}